@@ -0,0 +1,30 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.work.ObservableTask;
+
+/**
+ * Task running a graph algorithm. Wrapped in a
+ * {@link org.cytoscape.work.TaskIterator} it can be executed by a
+ * {@link org.cytoscape.work.TaskManager}, which runs it off the calling thread.
+ * <p>
+ * The task reports its progress to the TaskMonitor, e.g. the fraction of
+ * source nodes processed or the residual of the current iteration, and checks
+ * for cancellation inside its main loop, so {@link #cancel()} stops it within
+ * a short time. {@link #getResults(Class)} returns the same value as
+ * {@link #getResult()} when asked for a compatible type.
+ * 
+ * @param <R>
+ *            Type of the result.
+ */
+public interface AlgorithmTask<R> extends ObservableTask {
+
+	/**
+	 * Returns the result of the algorithm.
+	 * 
+	 * @return Result, or null if the task has not finished or was cancelled.
+	 */
+	public R getResult();
+}
@@ -0,0 +1,44 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * The algorithms that can be used to compute all pairs shortest paths.
+ * 
+ * @see GraphAlgorithms#findAllPairShortestPath(GraphSnapshot,
+ *      AllPairsAlgorithm, DistanceStorage, int, int)
+ */
+public enum AllPairsAlgorithm {
+
+	/**
+	 * Repeated breadth first search for unweighted snapshots, Dijkstra from
+	 * every source for weighted snapshots without negative weights and
+	 * Johnson's algorithm otherwise.
+	 */
+	AUTO,
+
+	/**
+	 * Floyd-Warshall algorithm. Takes time cubic in the number of nodes and
+	 * needs the whole matrix at once, so it cannot be combined with
+	 * {@link DistanceStorage#ON_DEMAND}.
+	 */
+	FLOYD_WARSHALL,
+
+	/**
+	 * One breadth first search from every source. Only valid for unweighted
+	 * snapshots; a weighted snapshot is rejected rather than having its
+	 * weights ignored.
+	 */
+	REPEATED_BFS,
+
+	/**
+	 * Johnson's algorithm: Bellman-Ford reweighting followed by Dijkstra from
+	 * every source. Detects negative cycles.
+	 * 
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/Johnson%27s_algorithm">Johnson's
+	 *      algorithm</a>
+	 */
+	JOHNSON
+}
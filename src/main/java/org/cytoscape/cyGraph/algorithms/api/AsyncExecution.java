@@ -0,0 +1,66 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Configuration shared by the asynchronous facades. Requests run on a bounded
+ * ExecutorService; once the maximum number of pending requests is reached new
+ * requests are rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException} instead of being
+ * queued, so that the time a request waits stays predictable under load.
+ * <p>
+ * Every request carries a deadline. A request that has not finished by its
+ * deadline fails: its computation is stopped and <code>get()</code> on its
+ * Future throws an {@link java.util.concurrent.ExecutionException} caused by a
+ * {@link java.util.concurrent.TimeoutException}. Such a Future is done but not
+ * cancelled, i.e. <code>isCancelled()</code> returns false;
+ * <code>isCancelled()</code> only returns true after the caller has cancelled
+ * the Future.
+ * 
+ * @see AsyncGraphAlgorithms
+ * @see org.cytoscape.cyGraph.centralities.api.AsyncCentralities
+ */
+public interface AsyncExecution {
+
+	/**
+	 * Sets the ExecutorService requests run on.
+	 * 
+	 * @param executor
+	 *            ExecutorService
+	 */
+	public void setExecutor(ExecutorService executor);
+
+	/**
+	 * Returns the ExecutorService requests run on.
+	 * 
+	 * @return ExecutorService
+	 */
+	public ExecutorService getExecutor();
+
+	/**
+	 * Sets the maximum number of requests that may be running or waiting at
+	 * the same time.
+	 * 
+	 * @param count
+	 *            Maximum number of pending requests.
+	 */
+	public void setMaximumPendingCount(int count);
+
+	/**
+	 * Returns the maximum number of requests that may be running or waiting
+	 * at the same time.
+	 * 
+	 * @return Maximum number of pending requests.
+	 */
+	public int getMaximumPendingCount();
+
+	/**
+	 * Returns the number of requests currently running or waiting.
+	 * 
+	 * @return Number of pending requests.
+	 */
+	public int getPendingCount();
+}
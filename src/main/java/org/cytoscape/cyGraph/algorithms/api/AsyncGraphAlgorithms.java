@@ -0,0 +1,131 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Asynchronous facade of GraphAlgorithms. Every method returns immediately
+ * with a Future of the result, and the computation runs on the configured
+ * ExecutorService with the given deadline.
+ * 
+ * @see AsyncExecution
+ */
+public interface AsyncGraphAlgorithms extends AsyncExecution {
+
+	/**
+	 * Computes all pairs shortest path on a CyNetwork asynchronously.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the FloydWarshallResult.
+	 * @see GraphAlgorithms#findAllPairShortestPath(CyNetwork, boolean,
+	 *      WeightFunction)
+	 */
+	public Future<FloydWarshallResult> findAllPairShortestPath(
+			CyNetwork network, boolean directed, WeightFunction function,
+			long timeout, TimeUnit unit);
+
+	/**
+	 * Finds the minimum spanning tree of a CyNetwork asynchronously.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the MSTResult.
+	 * @see GraphAlgorithms#findKruskalTree(CyNetwork, WeightFunction)
+	 */
+	public Future<MSTResult> findKruskalTree(CyNetwork network,
+			WeightFunction function, long timeout, TimeUnit unit);
+
+	/**
+	 * Computes the shortest paths from a source CyNode to all the other nodes
+	 * in a CyNetwork asynchronously.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param source
+	 *            Source CyNode.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the DijkstraResult.
+	 * @see GraphAlgorithms#findPath(CyNetwork, CyNode, boolean,
+	 *      WeightFunction)
+	 */
+	public Future<DijkstraResult> findPath(CyNetwork network, CyNode source,
+			boolean directed, WeightFunction function, long timeout,
+			TimeUnit unit);
+
+	/**
+	 * Computes the hub and authority values of CyNodes in a CyNetwork
+	 * asynchronously.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the HITSResults.
+	 * @see GraphAlgorithms#getHITSScores(CyNetwork, boolean)
+	 */
+	public Future<HITSResults> getHITSScores(CyNetwork network,
+			boolean directed, long timeout, TimeUnit unit);
+
+	/**
+	 * Computes the pagerank of CyNodes in a CyNetwork asynchronously.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Epsilon value to be used in pagerank computation. The default
+	 *            is 0.001.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the PagerankResults.
+	 * @see GraphAlgorithms#getPageranks(CyNetwork, WeightFunction, boolean,
+	 *      double, double)
+	 */
+	public Future<PagerankResults> getPageranks(CyNetwork network,
+			WeightFunction function, boolean directed, double probability,
+			double epsilon, long timeout, TimeUnit unit);
+}
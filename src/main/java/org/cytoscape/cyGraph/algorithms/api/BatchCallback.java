@@ -0,0 +1,37 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * <code>BatchCallback</code> function to be provided by the user. Unlike
+ * {@link Callback} it is invoked once for a batch of visited nodes, i.e. a
+ * breadth first search level or a chunk of nodes in visiting order, which are
+ * passed as node indices of a GraphSnapshot.
+ * <p>
+ * When a traversal runs the callback on the calling thread the arrays are
+ * reused for the next batch and must not be kept. When it dispatches the
+ * callback to an Executor every batch gets its own arrays, the traversal does
+ * not wait for the callback, {@link TraversalAction#STOP} takes effect at the
+ * next batch the traversal produces after the callback has returned, and
+ * {@link TraversalAction#PRUNE} is ignored.
+ * 
+ */
+public interface BatchCallback {
+
+	/**
+	 * Called with a batch of visited nodes.
+	 * 
+	 * @param nodes
+	 *            Node indices of the visited nodes.
+	 * @param times
+	 *            Visiting time of each node.
+	 * @param distances
+	 *            Distance, in hops, of each node from the source.
+	 * @param length
+	 *            Number of valid entries in the arrays.
+	 * @return TraversalAction telling the traversal how to continue.
+	 */
+	public TraversalAction notify(int[] nodes, int[] times, int[] distances,
+			int length);
+}
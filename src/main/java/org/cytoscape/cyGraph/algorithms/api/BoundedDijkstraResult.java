@@ -0,0 +1,39 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * DijkstraResult of a search that stopped when a bound was met. Only the
+ * settled nodes have a distance and a path; for every other node
+ * {@link #hasPathTo(CyNode)} returns False, and {@link #getEccentricity()} is
+ * the largest distance among the settled nodes.
+ * 
+ */
+public interface BoundedDijkstraResult extends DijkstraResult {
+
+	/**
+	 * Returns the settled CyNodes in increasing order of distance from the
+	 * source, starting with the source itself.
+	 * 
+	 * @return Sequence of settled CyNodes.
+	 */
+	public Iterable<CyNode> getSettledNodes();
+
+	/**
+	 * Returns the number of settled CyNodes.
+	 * 
+	 * @return Number of settled nodes.
+	 */
+	public int getSettledCount();
+
+	/**
+	 * Returns True if the search stopped because a bound was met and False if
+	 * it explored every node reachable from the source.
+	 * 
+	 * @return True if a bound was met and False otherwise.
+	 */
+	public boolean isBoundReached();
+}
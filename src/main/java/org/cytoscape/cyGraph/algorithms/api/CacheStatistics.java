@@ -0,0 +1,55 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * Provides methods to get the usage counters of a ResultCache.
+ * 
+ */
+public interface CacheStatistics {
+
+	/**
+	 * Returns the number of calls answered from the cache.
+	 * 
+	 * @return Number of hits.
+	 */
+	public long getHitCount();
+
+	/**
+	 * Returns the number of calls that had to be computed.
+	 * 
+	 * @return Number of misses.
+	 */
+	public long getMissCount();
+
+	/**
+	 * Returns the number of results evicted to respect the size or memory
+	 * limit.
+	 * 
+	 * @return Number of evictions.
+	 */
+	public long getEvictionCount();
+
+	/**
+	 * Returns the number of results removed because their network was
+	 * modified.
+	 * 
+	 * @return Number of invalidations.
+	 */
+	public long getInvalidationCount();
+
+	/**
+	 * Returns the number of results currently held.
+	 * 
+	 * @return Number of results.
+	 */
+	public int getSize();
+
+	/**
+	 * Returns the estimated memory used by the results currently held.
+	 * 
+	 * @return Estimated memory in bytes.
+	 */
+	public long getEstimatedMemory();
+}
@@ -0,0 +1,44 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * GraphAlgorithms that return results from a ResultCache when the same
+ * computation was already done on the unchanged network.
+ * <p>
+ * Methods that create stateful objects, read or write files, or report to a
+ * callback always run and never touch the cache, because a cached object
+ * would be shared between callers that change it, files may change outside
+ * the cache, and a cached result would skip the callbacks:
+ * <ul>
+ * <li>{@link #createDfsEngine(GraphSnapshot)}</li>
+ * <li>{@link #createDistanceOracle(GraphSnapshot, int, LandmarkSelection,
+ * int)}</li>
+ * <li>{@link #createIncrementalPageranks(org.cytoscape.model.CyNetwork,
+ * WeightFunction, boolean, double, double, PagerankResults)}</li>
+ * <li>{@link #createSnapshot(org.cytoscape.model.CyNetwork, boolean,
+ * WeightFunction)}</li>
+ * <li>{@link #findAllPairShortestPath(GraphSnapshot, AllPairsAlgorithm,
+ * java.io.File, String, boolean, int)}</li>
+ * <li>{@link #openAllPairShortestPath(GraphSnapshot, java.io.File, String)}</li>
+ * <li>{@link #readDistanceOracle(GraphSnapshot, java.io.File, String)}</li>
+ * <li>every overload of <code>breadthFirstSearch</code> and
+ * <code>depthFirstSearch</code> taking a Callback or BatchCallback</li>
+ * </ul>
+ * The parallel
+ * {@link #breadthFirstSearch(GraphSnapshot, org.cytoscape.model.CyNode, int)}
+ * invokes no callback and is cached like the other snapshot methods, keyed
+ * by the snapshot and the source; the parents it returns are one valid
+ * breadth first tree, so a cached result is as good as a new one.
+ * 
+ */
+public interface CachedGraphAlgorithms extends GraphAlgorithms {
+
+	/**
+	 * Returns the ResultCache holding the results.
+	 * 
+	 * @return ResultCache
+	 */
+	public ResultCache getCache();
+}
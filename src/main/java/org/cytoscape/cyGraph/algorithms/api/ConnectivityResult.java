@@ -0,0 +1,84 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the components, articulation points and bridges of
+ * a GraphSnapshot. Components are strongly connected components for a
+ * directed snapshot and connected components otherwise. Articulation points
+ * and bridges always refer to the snapshot with edge directions ignored, so
+ * for a directed snapshot they come from a second, undirected depth first
+ * search pass.
+ * <p>
+ * The arrays of a ConnectivityResult belong to it alone; they are not reused
+ * by the DfsEngine that produced it.
+ * 
+ */
+public interface ConnectivityResult {
+
+	/**
+	 * Returns the number of components.
+	 * 
+	 * @return Number of components.
+	 */
+	public int getComponentCount();
+
+	/**
+	 * Returns the component of a given CyNode, between 0 and
+	 * <code>getComponentCount() - 1</code>.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Component number.
+	 */
+	public int getComponent(CyNode node);
+
+	/**
+	 * Returns the component of every node, indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Component number)
+	 */
+	public int[] getComponents();
+
+	/**
+	 * Returns True if removing a given CyNode disconnects its weakly
+	 * connected component, i.e. its connected component with edge directions
+	 * ignored, and False otherwise. For a directed snapshot this is not the
+	 * component returned by {@link #getComponent(CyNode)}.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return True if the node is an articulation point and False otherwise.
+	 */
+	public boolean isArticulationPoint(CyNode node);
+
+	/**
+	 * Returns the articulation points.
+	 * 
+	 * @return Sequence of CyNodes that are articulation points.
+	 */
+	public Iterable<CyNode> getArticulationPoints();
+
+	/**
+	 * Returns True if removing a given CyEdge disconnects its weakly connected
+	 * component and False otherwise. For a directed snapshot this is not the
+	 * component returned by {@link #getComponent(CyNode)}.
+	 * 
+	 * @param edge
+	 *            CyEdge
+	 * @return True if the edge is a bridge and False otherwise.
+	 */
+	public boolean isBridge(CyEdge edge);
+
+	/**
+	 * Returns the bridges.
+	 * 
+	 * @return Sequence of CyEdges that are bridges.
+	 */
+	public Iterable<CyEdge> getBridges();
+}
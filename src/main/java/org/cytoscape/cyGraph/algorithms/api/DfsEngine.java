@@ -0,0 +1,59 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * Iterative depth first search on a GraphSnapshot. The search uses an explicit
+ * stack of primitive values instead of recursion, so it does not depend on
+ * the thread stack size, and the visited, parent and timestamp buffers are
+ * allocated once and reused by every call.
+ * <p>
+ * A DfsEngine is not thread safe. Because the buffers are reused, the arrays
+ * of a returned IndexedDfsResult are overwritten by the next call on the same
+ * engine.
+ * 
+ * @see GraphAlgorithms#createDfsEngine(GraphSnapshot)
+ */
+public interface DfsEngine {
+
+	/**
+	 * Returns the GraphSnapshot the engine searches.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Performs depth first search starting from a given source CyNode.
+	 * 
+	 * @param source
+	 *            Source CyNode.
+	 * @param callback
+	 *            Callback function, or null.
+	 * @return An instance of IndexedDfsResult that provides methods to access
+	 *         the discovery and finishing times and the parents.
+	 */
+	public IndexedDfsResult search(CyNode source, Callback callback);
+
+	/**
+	 * Runs depth first search from every unvisited node and computes the
+	 * components, the articulation points and the bridges. On an undirected
+	 * snapshot this takes a single pass, which finds the connected components
+	 * together with the articulation points and bridges. On a directed
+	 * snapshot it takes two: a directed pass finding the strongly connected
+	 * components (Tarjan's algorithm), and an undirected pass over both the
+	 * out- and in-adjacency finding the articulation points and bridges.
+	 * <p>
+	 * Unlike {@link #search(CyNode, Callback)}, the result gets arrays of its
+	 * own and is not overwritten by later calls on the engine.
+	 * 
+	 * @return An instance of ConnectivityResult.
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">Tarjan's
+	 *      strongly connected components algorithm</a>
+	 */
+	public ConnectivityResult findComponents();
+}
@@ -0,0 +1,36 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * <code>DistanceHeuristic</code> i.e. a lower bound on the distance between two
+ * nodes of a GraphSnapshot, used to guide an A* search.
+ * <p>
+ * The heuristic must be consistent for every target t: for every edge from u
+ * to v with weight w(u,v), <code>h(u, t) &lt;= w(u,v) + h(v, t)</code>, and
+ * <code>h(t, t) == 0</code>. Bidirectional A* also runs a backward search
+ * towards the source s, which uses <code>getLowerBound(s, v)</code> for a node
+ * v, so the bound must be consistent in its first argument as well:
+ * <code>h(s, v) &lt;= h(s, u) + w(u,v)</code>. A consistent heuristic never
+ * exceeds the true distance; one that is only admissible may make the search
+ * return a path that is not the shortest one. The bounds of a
+ * {@link DistanceOracle} are consistent in both arguments.
+ * 
+ */
+public interface DistanceHeuristic {
+
+	/**
+	 * Returns a lower bound on the distance from one node to another. The
+	 * forward search calls it with the target of the query as
+	 * <code>target</code>, the backward search with the source of the query as
+	 * <code>node</code>.
+	 * 
+	 * @param node
+	 *            Index of the node in the GraphSnapshot.
+	 * @param target
+	 *            Index of the target node in the GraphSnapshot.
+	 * @return Lower bound on the distance from node to target.
+	 */
+	public double getLowerBound(int node, int target);
+}
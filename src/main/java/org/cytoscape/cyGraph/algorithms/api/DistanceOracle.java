@@ -0,0 +1,124 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * Answers approximate distance queries on a GraphSnapshot from the distances
+ * between every node and a small set of landmark nodes (the ALT technique).
+ * Both bounds are computed in time linear in the number of landmarks. As a
+ * DistanceHeuristic the oracle can be passed to
+ * {@link GraphAlgorithms#findPath(GraphSnapshot, CyNode, CyNode, DistanceHeuristic)}
+ * to speed up exact queries.
+ * 
+ */
+public interface DistanceOracle extends DistanceHeuristic {
+
+	/**
+	 * Returns the GraphSnapshot the oracle was built on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the number of landmarks.
+	 * 
+	 * @return Number of landmarks.
+	 */
+	public int getLandmarkCount();
+
+	/**
+	 * Returns the landmark with the given position.
+	 * 
+	 * @param index
+	 *            Position of the landmark, between 0 and
+	 *            <code>getLandmarkCount() - 1</code>.
+	 * @return Landmark CyNode.
+	 */
+	public CyNode getLandmark(int index);
+
+	/**
+	 * Returns a lower bound on the distance from the source CyNode to the
+	 * target CyNode.
+	 * 
+	 * @param source
+	 *            Source CyNode.
+	 * @param target
+	 *            Target CyNode.
+	 * @return Lower bound on the distance.
+	 */
+	public double getLowerBound(CyNode source, CyNode target);
+
+	/**
+	 * Returns an upper bound on the distance from the source CyNode to the
+	 * target CyNode, i.e. the length of the shortest path through one of the
+	 * landmarks, or <code>Double.POSITIVE_INFINITY</code> if there is no such
+	 * path.
+	 * 
+	 * @param source
+	 *            Source CyNode.
+	 * @param target
+	 *            Target CyNode.
+	 * @return Upper bound on the distance.
+	 */
+	public double getUpperBound(CyNode source, CyNode target);
+
+	/**
+	 * Returns the modification count of the snapshot the oracle was built on
+	 * or read onto, i.e. {@link GraphSnapshot#getModificationCount()}. The
+	 * distances come from that snapshot, so the count of the network at the
+	 * time the oracle was built or read is not used. The count is only
+	 * meaningful within the current session.
+	 * 
+	 * @return Modification count.
+	 * @see GraphSnapshot#getModificationCount()
+	 */
+	public long getModificationCount();
+
+	/**
+	 * Returns True if the modification count of the network for the weight
+	 * function of the snapshot (see
+	 * {@link NetworkModificationTracker#getModificationCount(org.cytoscape.model.CyNetwork,
+	 * WeightFunction)}) differs from {@link #getModificationCount()} and
+	 * False otherwise, i.e. if the structure or the weights have changed
+	 * since the snapshot of the oracle was created. Selecting nodes does not
+	 * make an oracle stale, while one built or read on a snapshot that was
+	 * already out of date is stale from the start. The bounds of a stale
+	 * oracle may be wrong. Whether a file still matches the
+	 * snapshot is checked when it is read.
+	 * 
+	 * @return True if the oracle is stale and False otherwise.
+	 */
+	public boolean isStale();
+
+	/**
+	 * Writes the oracle to a file, from which it can be read back with
+	 * {@link GraphAlgorithms#readDistanceOracle(GraphSnapshot, File, String)}.
+	 * Node indices of a snapshot are not stable, so besides the distances the
+	 * file records the number of nodes, the value of <code>keyColumn</code>
+	 * for every node, the directed and weighted flags of the snapshot, and a
+	 * fingerprint of the edges (by the keys of their end points) and their
+	 * weights. Landmark distances of a directed snapshot give no valid bounds
+	 * on an undirected one and vice versa, hence the flags. The SUID is only stable within one session,
+	 * so a column such as "shared name" should be used for files meant to
+	 * outlive it.
+	 * 
+	 * @param file
+	 *            File to write to. An existing file is replaced.
+	 * @param keyColumn
+	 *            Column of the default node table identifying the nodes, or
+	 *            null to use the SUID.
+	 * @throws IOException
+	 *             If the file cannot be written.
+	 * @throws IllegalArgumentException
+	 *             If the key column does not exist or its values are missing
+	 *             or not unique.
+	 */
+	public void write(File file, String keyColumn) throws IOException;
+}
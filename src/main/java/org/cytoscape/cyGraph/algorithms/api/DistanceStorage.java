@@ -0,0 +1,43 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * The ways an all pairs shortest path result can hold its distances. Every
+ * storage also keeps the information needed for
+ * {@link FloydWarshallResult#getPath(org.cytoscape.model.CyNode, org.cytoscape.model.CyNode)},
+ * so paths are never rebuilt from rounded distances.
+ * 
+ * @see GraphAlgorithms#findAllPairShortestPath(GraphSnapshot,
+ *      AllPairsAlgorithm, DistanceStorage, int, int)
+ */
+public enum DistanceStorage {
+
+	/**
+	 * Dense matrix of <code>double</code> values, stored in blocks of rows so
+	 * that it is not limited to 2^31 entries, together with a matrix of
+	 * <code>int</code> next hops in the same layout.
+	 */
+	DOUBLE,
+
+	/**
+	 * Dense matrix of <code>float</code> values, stored in blocks of rows,
+	 * together with a matrix of <code>int</code> next hops. Halves the memory
+	 * of the distances of {@link #DOUBLE} at the cost of precision. The
+	 * distances are rounded only when stored; the next hops are recorded
+	 * while the search runs in <code>double</code> precision, so paths are
+	 * exact and their lengths may differ slightly from the stored distance.
+	 */
+	FLOAT,
+
+	/**
+	 * No matrix is stored. The row of a source node is computed the first
+	 * time it is queried, together with the predecessor of every node on the
+	 * shortest path tree of the source, and at most the given number of most
+	 * recently used rows is kept. Not available with
+	 * {@link AllPairsAlgorithm#FLOYD_WARSHALL}, which cannot compute a single
+	 * row.
+	 */
+	ON_DEMAND
+}
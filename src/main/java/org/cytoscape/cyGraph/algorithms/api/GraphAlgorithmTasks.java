@@ -0,0 +1,252 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Creates cancellable, progress reporting AlgorithmTasks for the long running
+ * methods of GraphAlgorithms. The parallel work of the tasks is done on an
+ * ExecutorService shared by all tasks created here, so that several analyses
+ * can run at the same time without using more threads than the executor
+ * allows.
+ * <p>
+ * This is not a {@link org.cytoscape.work.TaskFactory}: the tasks take their
+ * parameters as arguments and are meant to be run by the caller, wrapped in a
+ * {@link org.cytoscape.work.TaskIterator}, rather than registered as menu
+ * actions.
+ * 
+ */
+public interface GraphAlgorithmTasks {
+
+	/**
+	 * Sets the ExecutorService the tasks run their parallel work on.
+	 * 
+	 * @param executor
+	 *            ExecutorService
+	 */
+	public void setExecutor(ExecutorService executor);
+
+	/**
+	 * Returns the ExecutorService the tasks run their parallel work on.
+	 * 
+	 * @return ExecutorService
+	 */
+	public ExecutorService getExecutor();
+
+	/**
+	 * Creates a task computing all pairs shortest path on a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            AllPairsAlgorithm to use.
+	 * @param storage
+	 *            DistanceStorage deciding how the distances are held.
+	 * @param maxCachedRows
+	 *            Maximum number of rows kept by
+	 *            {@link DistanceStorage#ON_DEMAND}.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#findAllPairShortestPath(GraphSnapshot,
+	 *      AllPairsAlgorithm, DistanceStorage, int, int)
+	 */
+	public AlgorithmTask<FloydWarshallResult> createAllPairShortestPathTask(
+			GraphSnapshot snapshot, AllPairsAlgorithm algorithm,
+			DistanceStorage storage, int maxCachedRows);
+
+	/**
+	 * Creates a task computing all pairs shortest path on a GraphSnapshot
+	 * into a memory mapped file. If the task is cancelled the partly written
+	 * file is deleted.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            AllPairsAlgorithm to use.
+	 * @param file
+	 *            File to write the matrix to. An existing file is replaced.
+	 * @param keyColumn
+	 *            Column of the default node table identifying the nodes, or
+	 *            null to use the SUID.
+	 * @param storeNextHops
+	 *            True if the next hops are to be stored for path
+	 *            reconstruction and false otherwise.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#findAllPairShortestPath(GraphSnapshot,
+	 *      AllPairsAlgorithm, File, String, boolean, int)
+	 */
+	public AlgorithmTask<MappedFloydWarshallResult> createAllPairShortestPathTask(
+			GraphSnapshot snapshot, AllPairsAlgorithm algorithm, File file,
+			String keyColumn, boolean storeNextHops);
+
+	/**
+	 * Creates a task finding the components, articulation points and bridges
+	 * of a GraphSnapshot. The task uses a DfsEngine of its own.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return AlgorithmTask
+	 * @see DfsEngine#findComponents()
+	 */
+	public AlgorithmTask<ConnectivityResult> createComponentsTask(
+			GraphSnapshot snapshot);
+
+	/**
+	 * Creates a task building a DistanceOracle on a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param landmarks
+	 *            Number of landmarks.
+	 * @param selection
+	 *            LandmarkSelection strategy.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#createDistanceOracle(GraphSnapshot, int,
+	 *      LandmarkSelection, int)
+	 */
+	public AlgorithmTask<DistanceOracle> createDistanceOracleTask(
+			GraphSnapshot snapshot, int landmarks, LandmarkSelection selection);
+
+	/**
+	 * Creates a task computing the hub and authority values of CyNodes in a
+	 * GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param epsilon
+	 *            The iteration stops when the residual drops below epsilon.
+	 * @param maxIterations
+	 *            Maximum number of iterations.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#getHITSScores(GraphSnapshot, double, int, boolean,
+	 *      int)
+	 */
+	public AlgorithmTask<IndexedHITSResults> createHITSScoresTask(
+			GraphSnapshot snapshot, double epsilon, int maxIterations);
+
+	/**
+	 * Creates a task computing the shortest paths from a source CyNode to all
+	 * the other nodes in a GraphSnapshot with a chosen engine.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param engine
+	 *            ShortestPathEngine to use.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#findPath(GraphSnapshot, CyNode, ShortestPathEngine,
+	 *      int)
+	 */
+	public AlgorithmTask<IndexedDijkstraResult> createPathTask(
+			GraphSnapshot snapshot, CyNode source, ShortestPathEngine engine);
+
+	/**
+	 * Creates a task computing the shortest paths from a source CyNode to the
+	 * nodes of a GraphSnapshot around it, stopping as soon as one of the given
+	 * bounds is met.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param maxDistance
+	 *            Nodes farther than this distance are not settled. Use
+	 *            <code>Double.POSITIVE_INFINITY</code> for no bound.
+	 * @param targets
+	 *            The search stops once all of these CyNodes are settled, or
+	 *            null for no bound.
+	 * @param maxNodes
+	 *            The search stops once this many nodes, the source included,
+	 *            are settled. Use <code>Integer.MAX_VALUE</code> for no bound.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#findPath(GraphSnapshot, CyNode, double, Set, int)
+	 */
+	public AlgorithmTask<BoundedDijkstraResult> createPathTask(
+			GraphSnapshot snapshot, CyNode source, double maxDistance,
+			Set<CyNode> targets, int maxNodes);
+
+	/**
+	 * Creates a task computing the pagerank of CyNodes in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            The iteration stops when the residual drops below epsilon.
+	 *            The default is 0.001.
+	 * @param maxIterations
+	 *            Maximum number of iterations.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#getPageranks(GraphSnapshot, double, double, int,
+	 *      boolean, int)
+	 */
+	public AlgorithmTask<IndexedPagerankResults> createPageranksTask(
+			GraphSnapshot snapshot, double probability, double epsilon,
+			int maxIterations);
+
+	/**
+	 * Creates a task computing the personalized pagerank of CyNodes in a
+	 * GraphSnapshot relative to a weighted set of seed nodes.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the seed nodes.
+	 * @param seeds
+	 *            Map : (Seed CyNode) -> (Weight). The weights are normalized
+	 *            to sum to 1.
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Residual, relative to the node degree, below which a node is
+	 *            no longer pushed.
+	 * @param k
+	 *            Number of nodes to return in
+	 *            {@link PersonalizedPagerankResults#getTopNodes()}.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#getPersonalizedPageranks(GraphSnapshot, Map,
+	 *      double, double, int)
+	 */
+	public AlgorithmTask<PersonalizedPagerankResults> createPersonalizedPageranksTask(
+			GraphSnapshot snapshot, Map<CyNode, Double> seeds,
+			double probability, double epsilon, int k);
+
+	/**
+	 * Creates a task creating a GraphSnapshot of a CyNetwork.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight, or null if
+	 *            every edge should have weight 1.0.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#createSnapshot(CyNetwork, boolean, WeightFunction)
+	 */
+	public AlgorithmTask<GraphSnapshot> createSnapshotTask(CyNetwork network,
+			boolean directed, WeightFunction function);
+
+	/**
+	 * Creates a task finding a minimum spanning forest of a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            MSTAlgorithm to use.
+	 * @return AlgorithmTask
+	 * @see GraphAlgorithms#findSpanningForest(GraphSnapshot, MSTAlgorithm, int)
+	 */
+	public AlgorithmTask<IndexedMSTResult> createSpanningForestTask(
+			GraphSnapshot snapshot, MSTAlgorithm algorithm);
+}
@@ -3,6 +3,12 @@
  */
 package org.cytoscape.cyGraph.algorithms.api;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 import org.cytoscape.model.CyNetwork;
 import org.cytoscape.model.CyNode;
 
@@ -39,6 +45,153 @@ public interface GraphAlgorithms {
 	public BfsResult breadthFirstSearch(CyNetwork network, CyNode source,
 			boolean directed, Callback callback);
 
+	/**
+	 * Performs breadth first search on a GraphSnapshot starting from a given
+	 * source CyNode.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the source node.
+	 * @param source
+	 *            Source CyNode.
+	 * @param callback
+	 *            Callback function
+	 * @return
+	 * @see #breadthFirstSearch(CyNetwork, CyNode, boolean, Callback)
+	 */
+	public BfsResult breadthFirstSearch(GraphSnapshot snapshot, CyNode source,
+			Callback callback);
+
+	/**
+	 * Performs a parallel, direction-optimizing breadth first search on a
+	 * GraphSnapshot. Each level is expanded either top-down from the frontier
+	 * or bottom-up from the unvisited nodes, whichever touches fewer edges
+	 * (Beamer et al.), and frontiers are kept as bitmaps. No callback is
+	 * invoked.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the source node.
+	 * @param source
+	 *            Source CyNode.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedBfsResult that provides methods to access
+	 *         the distances and parents.
+	 */
+	public IndexedBfsResult breadthFirstSearch(GraphSnapshot snapshot,
+			CyNode source, int parallelism);
+
+	/**
+	 * Performs breadth first search on a GraphSnapshot and reports the visited
+	 * nodes level by level, in batches of at most <code>batchSize</code>
+	 * nodes, to a BatchCallback.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the source node.
+	 * @param source
+	 *            Source CyNode.
+	 * @param callback
+	 *            BatchCallback function
+	 * @param batchSize
+	 *            Maximum number of nodes per batch.
+	 * @param executor
+	 *            Executor on which the callback is run without blocking the
+	 *            traversal, or null to run it on the calling thread.
+	 * @return An instance of IndexedBfsResult that provides methods to access
+	 *         the distances and parents of the visited nodes.
+	 * @see BatchCallback
+	 */
+	public IndexedBfsResult breadthFirstSearch(GraphSnapshot snapshot,
+			CyNode source, BatchCallback callback, int batchSize,
+			Executor executor);
+
+	/**
+	 * Creates a DfsEngine performing iterative depth first search on a
+	 * GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return An instance of DfsEngine.
+	 */
+	public DfsEngine createDfsEngine(GraphSnapshot snapshot);
+
+	/**
+	 * Builds a DistanceOracle on a GraphSnapshot. The landmarks are picked
+	 * with the given strategy and a shortest path search is run from (and, for
+	 * directed snapshots, to) every landmark; the distances are kept in
+	 * primitive arrays.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param landmarks
+	 *            Number of landmarks.
+	 * @param selection
+	 *            LandmarkSelection strategy.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of DistanceOracle.
+	 */
+	public DistanceOracle createDistanceOracle(GraphSnapshot snapshot,
+			int landmarks, LandmarkSelection selection, int parallelism);
+
+	/**
+	 * Computes the pagerank of CyNodes in a CyNetwork and keeps it up to date
+	 * while nodes and edges are added and removed. The returned object listens
+	 * to the network events until {@link IncrementalPageranks#dispose()} is
+	 * called. Edits of the weights are only followed when the function is a
+	 * {@link KeyedWeightFunction} that declares the columns it reads; see
+	 * {@link IncrementalPageranks}.
+	 * 
+	 * @param network
+	 *            CyNetwork containing the nodes for which the user wants to
+	 *            compute pagerank scores.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Epsilon value to be used in pagerank computation. The default
+	 *            is 0.001.
+	 * @param initial
+	 *            PagerankResults previously computed for the network to start
+	 *            from, or null to compute the pageranks from scratch first.
+	 *            It cannot be checked against the weights, directed flag and
+	 *            probability it was computed with, so it is only used as a
+	 *            starting vector: the residuals are computed from it against
+	 *            the current network with the given settings and pushed below
+	 *            epsilon before the object is returned. A mismatched or
+	 *            outdated initial vector therefore costs time but not
+	 *            accuracy. Nodes it does not contain start at 0.
+	 * @return An instance of IncrementalPageranks that provides methods to
+	 *         access the current pagerank score.
+	 */
+	public IncrementalPageranks createIncrementalPageranks(CyNetwork network,
+			WeightFunction function, boolean directed, double probability,
+			double epsilon, PagerankResults initial);
+
+	/**
+	 * Creates a GraphSnapshot of a CyNetwork. The snapshot can be passed to
+	 * any of the snapshot based methods of GraphAlgorithms and Centralities
+	 * so that the network model is read only once.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight, or null if
+	 *            every edge should have weight 1.0.
+	 * @return A GraphSnapshot of the CyNetwork.
+	 */
+	public GraphSnapshot createSnapshot(CyNetwork network, boolean directed,
+			WeightFunction function);
+
 	/**
 	 * Performs depth first search on a CyNetwork starting from a given source
 	 * CyNode. Depth first search is a graph search algorithm.
@@ -60,6 +213,48 @@ public interface GraphAlgorithms {
 	public DfsResult depthFirstSearch(CyNetwork network, CyNode source,
 			boolean directed, Callback callback);
 
+	/**
+	 * Performs depth first search on a GraphSnapshot starting from a given
+	 * source CyNode.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the source node.
+	 * @param source
+	 *            Source CyNode.
+	 * @param callback
+	 *            Callback function
+	 * @return
+	 * @see #depthFirstSearch(CyNetwork, CyNode, boolean, Callback)
+	 */
+	public DfsResult depthFirstSearch(GraphSnapshot snapshot, CyNode source,
+			Callback callback);
+
+	/**
+	 * Performs depth first search on a GraphSnapshot and reports the visited
+	 * nodes in visiting order, in batches of at most <code>batchSize</code>
+	 * nodes, to a BatchCallback. A batch is reported once it is full, by which
+	 * time the search has already descended from its earlier nodes, so
+	 * {@link TraversalAction#PRUNE} only keeps the nodes of the batch that
+	 * have not been expanded yet from being expanded. Use a batch size of 1 to
+	 * prune the whole subtree below a node.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the source node.
+	 * @param source
+	 *            Source CyNode.
+	 * @param callback
+	 *            BatchCallback function
+	 * @param batchSize
+	 *            Maximum number of nodes per batch.
+	 * @param executor
+	 *            Executor on which the callback is run without blocking the
+	 *            traversal, or null to run it on the calling thread.
+	 * @return
+	 * @see BatchCallback
+	 */
+	public DfsResult depthFirstSearch(GraphSnapshot snapshot, CyNode source,
+			BatchCallback callback, int batchSize, Executor executor);
+
 	/**
 	 * Computes all pairs shortest path on a CyNetwork using the Floyd Warshall
 	 * algorithm.
@@ -78,6 +273,103 @@ public interface GraphAlgorithms {
 	public FloydWarshallResult findAllPairShortestPath(CyNetwork network,
 			boolean directed, WeightFunction function);
 
+	/**
+	 * Computes all pairs shortest path on a GraphSnapshot using the Floyd
+	 * Warshall algorithm.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return
+	 * @see #findAllPairShortestPath(CyNetwork, boolean, WeightFunction)
+	 */
+	public FloydWarshallResult findAllPairShortestPath(GraphSnapshot snapshot);
+
+	/**
+	 * Computes all pairs shortest path on a GraphSnapshot with a chosen
+	 * algorithm and distance storage. Except for Floyd-Warshall the source
+	 * nodes are processed in parallel. Every storage keeps next hops or
+	 * predecessors alongside the distances, so
+	 * {@link FloydWarshallResult#getPath(CyNode, CyNode)} follows them
+	 * instead of comparing distances.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            AllPairsAlgorithm to use.
+	 * @param storage
+	 *            DistanceStorage deciding how the distances are held.
+	 * @param maxCachedRows
+	 *            Maximum number of rows kept by
+	 *            {@link DistanceStorage#ON_DEMAND}; the least recently used
+	 *            row is dropped when a new one is computed. Ignored by the
+	 *            other storages.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of FloydWarshallResult that provides methods to
+	 *         access the distances and paths.
+	 * @throws IllegalArgumentException
+	 *             If {@link AllPairsAlgorithm#REPEATED_BFS} is requested for a
+	 *             weighted snapshot, if {@link AllPairsAlgorithm#FLOYD_WARSHALL}
+	 *             is combined with {@link DistanceStorage#ON_DEMAND}, or if
+	 *             <code>maxCachedRows</code> is less than 1 with
+	 *             {@link DistanceStorage#ON_DEMAND}.
+	 */
+	public FloydWarshallResult findAllPairShortestPath(GraphSnapshot snapshot,
+			AllPairsAlgorithm algorithm, DistanceStorage storage,
+			int maxCachedRows, int parallelism);
+
+	/**
+	 * Computes all pairs shortest path on a GraphSnapshot and writes the
+	 * distances, and optionally the next node on every shortest path, to a
+	 * file. The returned result reads them through a memory mapping of the
+	 * file, so the matrix does not have to fit in the heap. The file can be
+	 * opened again later, also by another process, with
+	 * {@link #openAllPairShortestPath(GraphSnapshot, File, String)}.
+	 * <p>
+	 * Node indices of a snapshot are not stable, so the file also records the
+	 * value of <code>keyColumn</code> for every node, the directed and
+	 * weighted flags of the snapshot, and a fingerprint of the edges (by the
+	 * keys of their end points) and their weights. The flags are needed
+	 * because the same edges give different distances when treated as
+	 * directed or undirected. The SUID is only stable within one session, so
+	 * a column such as "shared name" should be used for files meant to
+	 * outlive it.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            AllPairsAlgorithm to use.
+	 * @param file
+	 *            File to write the matrix to. An existing file is replaced.
+	 * @param keyColumn
+	 *            Column of the default node table identifying the nodes, or
+	 *            null to use the SUID.
+	 * @param storeNextHops
+	 *            True if the next node on every shortest path is to be stored
+	 *            as well and false otherwise. Without them
+	 *            {@link FloydWarshallResult#getPath(CyNode, CyNode)} rebuilds
+	 *            a path from the stored <code>double</code> distances,
+	 *            walking from the source along an edge (u,v) whose end points
+	 *            satisfy <code>d(s,u) + w(u,v) == d(s,v)</code> up to a
+	 *            relative tolerance of 1e-9, and returns null if no such
+	 *            edge is found.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of MappedFloydWarshallResult backed by the file. It
+	 *         must be closed to release the mapping.
+	 * @throws IOException
+	 *             If the file cannot be written or mapped.
+	 * @throws IllegalArgumentException
+	 *             If the key column does not exist or its values are missing
+	 *             or not unique.
+	 */
+	public MappedFloydWarshallResult findAllPairShortestPath(
+			GraphSnapshot snapshot, AllPairsAlgorithm algorithm, File file,
+			String keyColumn, boolean storeNextHops, int parallelism)
+			throws IOException;
+
 	/**
 	 * Finds the minimum spanning tree of a CyNetwork using Kruskal's algorithm.
 	 * 
@@ -92,6 +384,17 @@ public interface GraphAlgorithms {
 	 */
 	public MSTResult findKruskalTree(CyNetwork network, WeightFunction function);
 
+	/**
+	 * Finds the minimum spanning tree of a GraphSnapshot using Kruskal's
+	 * algorithm.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return
+	 * @see #findKruskalTree(CyNetwork, WeightFunction)
+	 */
+	public MSTResult findKruskalTree(GraphSnapshot snapshot);
+
 	/**
 	 * Computes the shortest paths from a source CyNode to all the other nodes
 	 * in a CyNetwork.
@@ -113,6 +416,124 @@ public interface GraphAlgorithms {
 	public DijkstraResult findPath(CyNetwork network, CyNode source,
 			boolean directed, WeightFunction function);
 
+	/**
+	 * Computes the shortest paths from a source CyNode to all the other nodes
+	 * in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @return
+	 * @see #findPath(CyNetwork, CyNode, boolean, WeightFunction)
+	 */
+	public DijkstraResult findPath(GraphSnapshot snapshot, CyNode source);
+
+	/**
+	 * Computes the shortest paths from a source CyNode to all the other nodes
+	 * in a GraphSnapshot with a chosen engine. Edge weights must not be
+	 * negative.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param engine
+	 *            ShortestPathEngine to use.
+	 * @param parallelism
+	 *            Number of worker threads used by
+	 *            {@link ShortestPathEngine#DELTA_STEPPING}, or 0 to use one
+	 *            thread per available processor.
+	 * @return An instance of IndexedDijkstraResult that provides methods to
+	 *         access the distances and paths.
+	 * @throws IllegalArgumentException
+	 *             If engine is {@link ShortestPathEngine#RADIX_HEAP} and an
+	 *             edge weight of the snapshot is not an integer.
+	 */
+	public IndexedDijkstraResult findPath(GraphSnapshot snapshot,
+			CyNode source, ShortestPathEngine engine, int parallelism);
+
+	/**
+	 * Computes the shortest paths from a source CyNode to the nodes of a
+	 * GraphSnapshot around it, stopping as soon as one of the given bounds is
+	 * met. Nodes are settled in increasing order of distance, so the search
+	 * only explores the neighborhood it returns. Edge weights must not be
+	 * negative.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param maxDistance
+	 *            Nodes farther than this distance are not settled. Use
+	 *            <code>Double.POSITIVE_INFINITY</code> for no bound.
+	 * @param targets
+	 *            The search stops once all of these CyNodes are settled, or
+	 *            null for no bound.
+	 * @param maxNodes
+	 *            The search stops once this many nodes, the source included,
+	 *            are settled, i.e. it returns the nearest nodes. Use
+	 *            <code>Integer.MAX_VALUE</code> for no bound.
+	 * @return An instance of BoundedDijkstraResult that provides methods to
+	 *         access the settled nodes, their distances and paths.
+	 */
+	public BoundedDijkstraResult findPath(GraphSnapshot snapshot,
+			CyNode source, double maxDistance, Set<CyNode> targets,
+			int maxNodes);
+
+	/**
+	 * Computes the shortest path between a source CyNode and a target CyNode
+	 * using bidirectional Dijkstra. The search stops as soon as the forward
+	 * and backward frontiers meet, so only the part of the network around the
+	 * two nodes is explored. Edge weights must not be negative.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param source
+	 *            Source CyNode.
+	 * @param target
+	 *            Target CyNode.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @return An instance of PointToPointResult that provides methods to
+	 *         access the path and distance.
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/Bidirectional_search">Bidirectional
+	 *      search</a>
+	 */
+	public PointToPointResult findPath(CyNetwork network, CyNode source,
+			CyNode target, boolean directed, WeightFunction function);
+
+	/**
+	 * Computes the shortest path between a source CyNode and a target CyNode
+	 * of a GraphSnapshot using bidirectional Dijkstra, or bidirectional A* if
+	 * a DistanceHeuristic is given. Edge weights must not be negative. The
+	 * forward search from the source is guided by
+	 * <code>getLowerBound(v, target)</code> and the backward search from the
+	 * target by <code>getLowerBound(source, v)</code>; both are combined into
+	 * average potentials so the two searches stay consistent with each other.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param target
+	 *            Target CyNode.
+	 * @param heuristic
+	 *            Consistent DistanceHeuristic guiding the search, or null for
+	 *            plain bidirectional Dijkstra.
+	 * @return An instance of PointToPointResult that provides methods to
+	 *         access the path and distance.
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/A*_search_algorithm">A* search
+	 *      algorithm</a>
+	 */
+	public PointToPointResult findPath(GraphSnapshot snapshot, CyNode source,
+			CyNode target, DistanceHeuristic heuristic);
+
 	/**
 	 * Finds the minimum spanning tree of a CyNetwork using Prim's algorithm.
 	 * 
@@ -127,6 +548,17 @@ public interface GraphAlgorithms {
 	 */
 	public MSTResult findPrimTree(CyNetwork network, WeightFunction function);
 
+	/**
+	 * Finds the minimum spanning tree of a GraphSnapshot using Prim's
+	 * algorithm.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return
+	 * @see #findPrimTree(CyNetwork, WeightFunction)
+	 */
+	public MSTResult findPrimTree(GraphSnapshot snapshot);
+
 	/**
 	 * Finds shortest paths from a source CyNode to all the other nodes in a
 	 * CyNetwork. Useful when the network contains negative cycles.
@@ -149,6 +581,139 @@ public interface GraphAlgorithms {
 	public BellmanFordResult findShortestPath(CyNetwork network, CyNode source,
 			boolean directed, WeightFunction function);
 
+	/**
+	 * Finds shortest paths from a source CyNode to all the other nodes in a
+	 * GraphSnapshot using the Bellman-Ford algorithm.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @return
+	 * @see #findShortestPath(CyNetwork, CyNode, boolean, WeightFunction)
+	 */
+	public BellmanFordResult findShortestPath(GraphSnapshot snapshot,
+			CyNode source);
+
+	/**
+	 * Finds shortest paths with at most a given number of edges from a source
+	 * CyNode in a GraphSnapshot, using Bellman-Ford rounds restricted to the
+	 * nodes whose distance changed in the previous round, as in SPFA. Each
+	 * round relaxes the out-edges of those nodes from a frozen copy of the
+	 * distances the previous round ended with, so after round k every
+	 * distance is the length of a shortest path with at most k edges. The
+	 * search stops early when a round changes nothing, so searches in a small
+	 * neighborhood stay local. Distance and target bounds are not offered
+	 * because they cannot be applied safely when edge weights may be
+	 * negative.
+	 * <p>
+	 * The number of rounds is capped at <code>getNodeCount()</code> of the
+	 * snapshot, even when <code>maxHops</code> is larger, so the search ends
+	 * when a reachable negative cycle keeps changing distances. If distances
+	 * still change in round <code>getNodeCount()</code>, a negative cycle is
+	 * reachable from the source. With fewer rounds, after every round the
+	 * predecessors of the nodes that changed are followed; reaching a node
+	 * twice means the predecessors form a cycle, which is always a negative
+	 * one. Either way {@link BellmanFordResult#hasNegativeCycle()} returns
+	 * true and the distances are those after the last round performed.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param source
+	 *            Source CyNode.
+	 * @param maxHops
+	 *            Maximum number of relaxation rounds, i.e. of edges on a
+	 *            path. Use <code>Integer.MAX_VALUE</code> for no bound other
+	 *            than the node count.
+	 * @return An instance of BellmanFordResult. With
+	 *         <code>maxHops</code> below the node count, a negative cycle is
+	 *         only reported if the predecessors form it within
+	 *         <code>maxHops</code> rounds; otherwise the distances are the
+	 *         exact lengths of shortest paths with at most
+	 *         <code>maxHops</code> edges.
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/Shortest_Path_Faster_Algorithm">Shortest
+	 *      Path Faster Algorithm</a>
+	 */
+	public BellmanFordResult findShortestPath(GraphSnapshot snapshot,
+			CyNode source, int maxHops);
+
+	/**
+	 * Finds a minimum spanning forest of a GraphSnapshot with a parallel
+	 * algorithm. Edge weights are sorted as a primitive array and components
+	 * are tracked with a lock-free union-find. Edge directions are ignored.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param algorithm
+	 *            MSTAlgorithm to use.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedMSTResult that provides methods to access
+	 *         the forest and its weight.
+	 */
+	public IndexedMSTResult findSpanningForest(GraphSnapshot snapshot,
+			MSTAlgorithm algorithm, int parallelism);
+
+	/**
+	 * Opens a file written by
+	 * {@link #findAllPairShortestPath(GraphSnapshot, AllPairsAlgorithm, File, String, boolean, int)}
+	 * and returns a result that reads the distances through a memory mapping
+	 * of the file. The rows of the file are matched to the nodes of the
+	 * snapshot by their keys, so the snapshot may number its nodes
+	 * differently from the one the file was computed on.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot of the network the file was computed for.
+	 * @param file
+	 *            File containing the matrix.
+	 * @param keyColumn
+	 *            Column of the default node table identifying the nodes, or
+	 *            null to use the SUID. Must be the column used when the file
+	 *            was written.
+	 * @return An instance of MappedFloydWarshallResult backed by the file. It
+	 *         must be closed to release the mapping.
+	 * @throws IOException
+	 *             If the file cannot be read, if the keys of its nodes are not
+	 *             exactly the keys of the nodes of the snapshot, if it was
+	 *             computed with different directed or weighted flags than
+	 *             those of the snapshot, or if its fingerprint differs from
+	 *             that of the snapshot, i.e. the structure or weights have
+	 *             changed.
+	 */
+	public MappedFloydWarshallResult openAllPairShortestPath(
+			GraphSnapshot snapshot, File file, String keyColumn)
+			throws IOException;
+
+	/**
+	 * Reads a DistanceOracle written by
+	 * {@link DistanceOracle#write(File, String)}. The nodes of the file are
+	 * matched to the nodes of the snapshot by their keys, so the snapshot may
+	 * number its nodes differently from the one the oracle was built on. The
+	 * oracle takes its modification count from the snapshot, so it is stale
+	 * as soon as the snapshot is, including when the snapshot was already out
+	 * of date when the file was read.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot of the network the oracle was built for.
+	 * @param file
+	 *            File containing the oracle.
+	 * @param keyColumn
+	 *            Column of the default node table identifying the nodes, or
+	 *            null to use the SUID. Must be the column used when the file
+	 *            was written.
+	 * @return An instance of DistanceOracle.
+	 * @throws IOException
+	 *             If the file cannot be read, if the keys of its nodes are not
+	 *             exactly the keys of the nodes of the snapshot, if it was
+	 *             built with different directed or weighted flags than those
+	 *             of the snapshot, or if its fingerprint differs from that of
+	 *             the snapshot, i.e. the structure or weights have changed.
+	 */
+	public DistanceOracle readDistanceOracle(GraphSnapshot snapshot,
+			File file, String keyColumn) throws IOException;
+
 	/**
 	 * Computes the hub and authority values of CyNodes in a CyNetwork.
 	 * 
@@ -165,6 +730,47 @@ public interface GraphAlgorithms {
 	 */
 	public HITSResults getHITSScores(CyNetwork network, boolean directed);
 
+	/**
+	 * Computes the hub and authority values of CyNodes in a GraphSnapshot.
+	 * Edge weights are ignored.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return An instance of HITSResults that provides methods to access the
+	 *         hub and authority values of a node.
+	 * @see #getHITSScores(CyNetwork, boolean)
+	 */
+	public HITSResults getHITSScores(GraphSnapshot snapshot);
+
+	/**
+	 * Computes the hub and authority values of CyNodes in a GraphSnapshot by
+	 * power iteration with a parallel, row partitioned sparse matrix-vector
+	 * product over the compressed sparse row adjacency. Edge weights are
+	 * ignored. The residual of an iteration is the sum of the L1 norms of the
+	 * changes of the normalized hub vector and of the normalized authority
+	 * vector.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param epsilon
+	 *            The iteration stops when the residual drops below epsilon.
+	 * @param maxIterations
+	 *            Maximum number of iterations.
+	 * @param singlePrecision
+	 *            True if the score vectors are to be held as
+	 *            <code>float</code> values during the iteration and false
+	 *            otherwise.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedHITSResults that provides methods to
+	 *         access the hub and authority values and convergence
+	 *         information.
+	 */
+	public IndexedHITSResults getHITSScores(GraphSnapshot snapshot,
+			double epsilon, int maxIterations, boolean singlePrecision,
+			int parallelism);
+
 	/**
 	 * Computes the pagerank of CyNodes in a CyNetwork.
 	 * 
@@ -184,6 +790,17 @@ public interface GraphAlgorithms {
 	public PagerankResults getPageranks(CyNetwork network,
 			WeightFunction function, boolean directed);
 
+	/**
+	 * Computes the pagerank of CyNodes in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @return An instance of PagerankResults that provides methods to access
+	 *         the pagerank score.
+	 * @see #getPageranks(CyNetwork, WeightFunction, boolean)
+	 */
+	public PagerankResults getPageranks(GraphSnapshot snapshot);
+
 	/**
 	 * Computes the pagerank of CyNodes in a CyNetwork with the probability and
 	 * epsilon value provided by the user.
@@ -211,4 +828,117 @@ public interface GraphAlgorithms {
 			WeightFunction function, boolean directed, double probability,
 			double epsilon);
 
+	/**
+	 * Computes the pagerank of CyNodes in a GraphSnapshot with the probability
+	 * and epsilon value provided by the user.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Epsilon value to be used in pagerank computation. The default
+	 *            is 0.001.
+	 * @return An instance of PagerankResults that provides methods to access
+	 *         the pagerank score.
+	 * @see #getPageranks(CyNetwork, WeightFunction, boolean, double, double)
+	 */
+	public PagerankResults getPageranks(GraphSnapshot snapshot,
+			double probability, double epsilon);
+
+	/**
+	 * Computes the pagerank of CyNodes in a GraphSnapshot by power iteration
+	 * with a parallel, row partitioned sparse matrix-vector product. The
+	 * transition matrix is normalized by the outgoing edge weights once
+	 * before the first iteration, and the rank of nodes without outgoing
+	 * edges is spread uniformly over all nodes.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            The iteration stops when the residual drops below epsilon.
+	 *            The default is 0.001.
+	 * @param maxIterations
+	 *            Maximum number of iterations.
+	 * @param singlePrecision
+	 *            True if the transition matrix and rank vectors are to be
+	 *            held as <code>float</code> values during the iteration and
+	 *            false otherwise.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedPagerankResults that provides methods to
+	 *         access the pagerank score and convergence information.
+	 */
+	public IndexedPagerankResults getPageranks(GraphSnapshot snapshot,
+			double probability, double epsilon, int maxIterations,
+			boolean singlePrecision, int parallelism);
+
+	/**
+	 * Computes the personalized pagerank of CyNodes in a CyNetwork relative to
+	 * a weighted set of seed nodes, using the approximate local push
+	 * algorithm. The work done depends on epsilon and the neighborhood of the
+	 * seeds rather than on the size of the network.
+	 * 
+	 * @param network
+	 *            CyNetwork containing the seed nodes.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param seeds
+	 *            Map : (Seed CyNode) -> (Weight). The weights are normalized
+	 *            to sum to 1.
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Residual, relative to the node degree, below which a node is
+	 *            no longer pushed.
+	 * @param k
+	 *            Number of nodes to return in
+	 *            {@link PersonalizedPagerankResults#getTopNodes()}.
+	 * @return An instance of PersonalizedPagerankResults that provides methods
+	 *         to access the top k nodes and the pagerank score.
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/PageRank#Personalized_PageRank">Personalized
+	 *      PageRank</a>
+	 */
+	public PersonalizedPagerankResults getPersonalizedPageranks(
+			CyNetwork network, WeightFunction function, boolean directed,
+			Map<CyNode, Double> seeds, double probability, double epsilon, int k);
+
+	/**
+	 * Computes the personalized pagerank of CyNodes in a GraphSnapshot
+	 * relative to a weighted set of seed nodes, using the approximate local
+	 * push algorithm.
+	 * 
+	 * @param snapshot
+	 *            GraphSnapshot containing the seed nodes.
+	 * @param seeds
+	 *            Map : (Seed CyNode) -> (Weight). The weights are normalized
+	 *            to sum to 1.
+	 * @param probability
+	 *            Probability value alpha to be used in the computation of
+	 *            pagerank scores. The default is 0.85.
+	 * @param epsilon
+	 *            Residual, relative to the node degree, below which a node is
+	 *            no longer pushed.
+	 * @param k
+	 *            Number of nodes to return in
+	 *            {@link PersonalizedPagerankResults#getTopNodes()}.
+	 * @return An instance of PersonalizedPagerankResults that provides methods
+	 *         to access the top k nodes and the pagerank score.
+	 * @see #getPersonalizedPageranks(CyNetwork, WeightFunction, boolean, Map,
+	 *      double, double, int)
+	 */
+	public PersonalizedPagerankResults getPersonalizedPageranks(
+			GraphSnapshot snapshot, Map<CyNode, Double> seeds,
+			double probability, double epsilon, int k);
+
 }
@@ -0,0 +1,184 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyNode;
+
+/**
+ * A frozen, index-based copy of a CyNetwork on which the algorithms in
+ * {@link GraphAlgorithms} and {@link org.cytoscape.cyGraph.centralities.api.Centralities}
+ * can be run without touching the network model.
+ * <p>
+ * CyNodes are numbered <code>0 .. getNodeCount() - 1</code> and CyEdges
+ * <code>0 .. getEdgeCount() - 1</code>. Adjacency is stored in compressed
+ * sparse row form: the neighbors of node <code>u</code> are
+ * <code>getOutNeighbors()[getOutOffsets()[u] .. getOutOffsets()[u + 1] - 1]</code>
+ * and the edge leading to each of them is stored at the same position in
+ * <code>getOutEdges()</code>. For an undirected snapshot every edge appears in
+ * the lists of both of its end points and the in-adjacency arrays are the same
+ * as the out-adjacency arrays. Edge weights are read once from the
+ * WeightFunction when the snapshot is created.
+ * <p>
+ * A snapshot does not follow later changes to the CyNetwork it was created
+ * from. The arrays returned by its methods are shared and must not be
+ * modified.
+ * 
+ */
+public interface GraphSnapshot {
+
+	/**
+	 * Returns the CyNetwork this snapshot was created from.
+	 * 
+	 * @return CyNetwork.
+	 */
+	public CyNetwork getNetwork();
+
+	/**
+	 * Returns True if the snapshot treats the network as directed and False
+	 * otherwise.
+	 * 
+	 * @return True if the snapshot is directed and False otherwise.
+	 */
+	public boolean isDirected();
+
+	/**
+	 * Returns True if edge weights were taken from a WeightFunction and False
+	 * if every edge has weight 1.0.
+	 * 
+	 * @return True if the snapshot is weighted and False otherwise.
+	 */
+	public boolean isWeighted();
+
+	/**
+	 * Returns the modification count of the network, for the WeightFunction
+	 * of the snapshot, at the time the snapshot was created. The count
+	 * follows the structure and, for a weighted snapshot, the columns the
+	 * weights are read from, so selecting nodes or editing unrelated columns
+	 * does not make the snapshot out of date.
+	 * 
+	 * @return Modification count.
+	 * @see NetworkModificationTracker#getModificationCount(CyNetwork,
+	 *      WeightFunction)
+	 */
+	public long getModificationCount();
+
+	/**
+	 * Returns the number of CyNodes in the snapshot.
+	 * 
+	 * @return Number of nodes.
+	 */
+	public int getNodeCount();
+
+	/**
+	 * Returns the number of CyEdges in the snapshot.
+	 * 
+	 * @return Number of edges.
+	 */
+	public int getEdgeCount();
+
+	/**
+	 * Returns the CyNode with the given index.
+	 * 
+	 * @param index
+	 *            Node index.
+	 * @return CyNode.
+	 */
+	public CyNode getNode(int index);
+
+	/**
+	 * Returns the index of a given CyNode, or -1 if the node is not part of the
+	 * snapshot.
+	 * 
+	 * @param node
+	 *            CyNode.
+	 * @return Node index.
+	 */
+	public int getNodeIndex(CyNode node);
+
+	/**
+	 * Returns the CyEdge with the given index.
+	 * 
+	 * @param index
+	 *            Edge index.
+	 * @return CyEdge.
+	 */
+	public CyEdge getEdge(int index);
+
+	/**
+	 * Returns the index of a given CyEdge, or -1 if the edge is not part of the
+	 * snapshot.
+	 * 
+	 * @param edge
+	 *            CyEdge.
+	 * @return Edge index.
+	 */
+	public int getEdgeIndex(CyEdge edge);
+
+	/**
+	 * Returns the source node index of every edge, indexed by edge index.
+	 * 
+	 * @return Array : (Edge index) -> (Source node index)
+	 */
+	public int[] getEdgeSources();
+
+	/**
+	 * Returns the target node index of every edge, indexed by edge index.
+	 * 
+	 * @return Array : (Edge index) -> (Target node index)
+	 */
+	public int[] getEdgeTargets();
+
+	/**
+	 * Returns the weight of every edge, indexed by edge index.
+	 * 
+	 * @return Array : (Edge index) -> (Weight)
+	 */
+	public double[] getWeights();
+
+	/**
+	 * Returns the row offsets of the out-adjacency. The array has
+	 * <code>getNodeCount() + 1</code> entries.
+	 * 
+	 * @return Out-adjacency row offsets.
+	 */
+	public int[] getOutOffsets();
+
+	/**
+	 * Returns the node indices of the out-adjacency.
+	 * 
+	 * @return Out-adjacency neighbor indices.
+	 */
+	public int[] getOutNeighbors();
+
+	/**
+	 * Returns the edge indices of the out-adjacency.
+	 * 
+	 * @return Out-adjacency edge indices.
+	 */
+	public int[] getOutEdges();
+
+	/**
+	 * Returns the row offsets of the in-adjacency. The array has
+	 * <code>getNodeCount() + 1</code> entries.
+	 * 
+	 * @return In-adjacency row offsets.
+	 */
+	public int[] getInOffsets();
+
+	/**
+	 * Returns the node indices of the in-adjacency.
+	 * 
+	 * @return In-adjacency neighbor indices.
+	 */
+	public int[] getInNeighbors();
+
+	/**
+	 * Returns the edge indices of the in-adjacency.
+	 * 
+	 * @return In-adjacency edge indices.
+	 */
+	public int[] getInEdges();
+}
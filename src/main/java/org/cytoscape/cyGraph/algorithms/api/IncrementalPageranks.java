@@ -0,0 +1,71 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNetwork;
+
+/**
+ * PagerankResults that are kept up to date while the CyNetwork is edited. Node
+ * and edge additions and removals are recorded as they happen and applied
+ * with a forward push of the residuals around the changed edges, starting from
+ * the current pagerank vector, instead of a full recomputation.
+ * <p>
+ * Pending edits are applied before {@link #getPagerank(org.cytoscape.model.CyNode)}
+ * returns, or earlier by calling {@link #update()}.
+ * <p>
+ * All methods are thread safe. Network events are recorded on the thread
+ * that fires them, usually the event thread, while the pageranks may be read
+ * from any other thread. Recording an edit only appends it to the pending
+ * list under a short lock that is never held during an update, so event
+ * delivery is not stalled by readers. An update takes the pending list as it
+ * is and applies it under a separate update lock; a getter that finds
+ * pending edits waits for that lock, so readers block each other but not
+ * the event thread. An edit recorded while an update runs stays pending and
+ * is applied by the next one.
+ * <p>
+ * Weight changes are followed only for a {@link KeyedWeightFunction} that
+ * declares its columns: setting a value in one of them is recorded as a
+ * change of the weight of that edge. For any other WeightFunction the
+ * weights are read when an edge is added and later edits of them are not
+ * followed.
+ * 
+ * @see GraphAlgorithms#createIncrementalPageranks(CyNetwork, WeightFunction,
+ *      boolean, double, double, PagerankResults)
+ */
+public interface IncrementalPageranks extends PagerankResults {
+
+	/**
+	 * Returns the CyNetwork the pageranks are maintained for.
+	 * 
+	 * @return CyNetwork
+	 */
+	public CyNetwork getNetwork();
+
+	/**
+	 * Applies all pending edits.
+	 */
+	public void update();
+
+	/**
+	 * Returns the number of node and edge changes that have not been applied
+	 * yet.
+	 * 
+	 * @return Number of pending edits.
+	 */
+	public int getPendingEditCount();
+
+	/**
+	 * Returns the largest residual left after the last update. It is below
+	 * the epsilon the pageranks were created with unless edits are pending.
+	 * 
+	 * @return Largest residual.
+	 */
+	public double getResidual();
+
+	/**
+	 * Stops following the edits of the CyNetwork. The pageranks keep the
+	 * values they had at this point.
+	 */
+	public void dispose();
+}
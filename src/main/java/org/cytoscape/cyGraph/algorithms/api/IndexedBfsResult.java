@@ -0,0 +1,37 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * BfsResult whose distances and parents are stored in arrays indexed by the
+ * node indices of a GraphSnapshot.
+ * 
+ */
+public interface IndexedBfsResult extends BfsResult {
+
+	/**
+	 * Returns the GraphSnapshot the search was run on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the distance, in hops, from the source to every node, indexed by
+	 * node index. Unreachable nodes have distance -1. The array is shared and
+	 * must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Distance)
+	 */
+	public int[] getDistances();
+
+	/**
+	 * Returns the index of the parent of every node in the breadth first
+	 * search tree, or -1 for the source and unreachable nodes. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Parent index)
+	 */
+	public int[] getParents();
+}
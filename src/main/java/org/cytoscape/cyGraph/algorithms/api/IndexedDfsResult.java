@@ -0,0 +1,43 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * DfsResult whose discovery times, finishing times and parents are stored in
+ * arrays indexed by the node indices of a GraphSnapshot.
+ * 
+ */
+public interface IndexedDfsResult extends DfsResult {
+
+	/**
+	 * Returns the GraphSnapshot the search was run on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the pre-order (discovery) time of every node, indexed by node
+	 * index, or -1 for nodes that were not visited.
+	 * 
+	 * @return Array : (Node index) -> (Discovery time)
+	 */
+	public int[] getPreOrder();
+
+	/**
+	 * Returns the post-order (finishing) time of every node, indexed by node
+	 * index, or -1 for nodes that were not visited.
+	 * 
+	 * @return Array : (Node index) -> (Finishing time)
+	 */
+	public int[] getPostOrder();
+
+	/**
+	 * Returns the index of the parent of every node in the depth first search
+	 * tree, or -1 for the source and nodes that were not visited.
+	 * 
+	 * @return Array : (Node index) -> (Parent index)
+	 */
+	public int[] getParents();
+}
@@ -0,0 +1,46 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * DijkstraResult whose distances and predecessors are stored in arrays indexed
+ * by the node indices of a GraphSnapshot.
+ * 
+ */
+public interface IndexedDijkstraResult extends DijkstraResult {
+
+	/**
+	 * Returns the GraphSnapshot the search was run on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the engine that performed the search. Never
+	 * {@link ShortestPathEngine#AUTO}.
+	 * 
+	 * @return ShortestPathEngine
+	 */
+	public ShortestPathEngine getEngine();
+
+	/**
+	 * Returns the distance from the source to every node, indexed by node
+	 * index. Unreachable nodes have distance
+	 * <code>Double.POSITIVE_INFINITY</code>. The array is shared and must not
+	 * be modified.
+	 * 
+	 * @return Array : (Node index) -> (Distance)
+	 */
+	public double[] getDistances();
+
+	/**
+	 * Returns the index of the predecessor of every node on its shortest path
+	 * from the source, or -1 for the source and unreachable nodes. The array
+	 * is shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Predecessor index)
+	 */
+	public int[] getPredecessors();
+}
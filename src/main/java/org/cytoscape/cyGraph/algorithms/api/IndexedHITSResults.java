@@ -0,0 +1,42 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * HITSResults whose hub and authority values are stored in arrays indexed by
+ * the node indices of a GraphSnapshot, together with convergence information.
+ * 
+ */
+public interface IndexedHITSResults extends HITSResults {
+
+	/**
+	 * Returns the GraphSnapshot the scores were computed on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the hub value of every node, indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Hub value)
+	 */
+	public double[] getHubValues();
+
+	/**
+	 * Returns the authority value of every node, indexed by node index. The
+	 * array is shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Authority value)
+	 */
+	public double[] getAuthorityValues();
+
+	/**
+	 * Returns the convergence information of the computation.
+	 * 
+	 * @return IterationStatistics
+	 */
+	public IterationStatistics getStatistics();
+}
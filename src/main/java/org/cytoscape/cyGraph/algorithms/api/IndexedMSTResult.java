@@ -0,0 +1,37 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * MSTResult whose edges are stored as an array of edge indices of a
+ * GraphSnapshot. On a disconnected snapshot the result is a minimum spanning
+ * forest with one tree per connected component, and
+ * {@link #getMST()} is a view of the edge indices.
+ * 
+ */
+public interface IndexedMSTResult extends MSTResult {
+
+	/**
+	 * Returns the GraphSnapshot the forest was computed on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the edge indices of the minimum spanning forest. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Edge indices.
+	 */
+	public int[] getEdgeIndices();
+
+	/**
+	 * Returns the number of trees in the minimum spanning forest, i.e. the
+	 * number of connected components of the snapshot.
+	 * 
+	 * @return Number of trees.
+	 */
+	public int getTreeCount();
+}
@@ -0,0 +1,34 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * PagerankResults whose scores are stored in an array indexed by the node
+ * indices of a GraphSnapshot, together with convergence information.
+ * 
+ */
+public interface IndexedPagerankResults extends PagerankResults {
+
+	/**
+	 * Returns the GraphSnapshot the pageranks were computed on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the pagerank of every node, indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Pagerank)
+	 */
+	public double[] getPageranks();
+
+	/**
+	 * Returns the convergence information of the computation.
+	 * 
+	 * @return IterationStatistics
+	 */
+	public IterationStatistics getStatistics();
+}
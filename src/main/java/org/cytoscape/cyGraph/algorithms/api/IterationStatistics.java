@@ -0,0 +1,44 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * Provides methods to get convergence information about an iterative
+ * computation such as pagerank or HITS.
+ * 
+ */
+public interface IterationStatistics {
+
+	/**
+	 * Returns the number of iterations performed.
+	 * 
+	 * @return Number of iterations.
+	 */
+	public int getIterationCount();
+
+	/**
+	 * Returns the residual, i.e. the L1 norm of the change of the score
+	 * vector, after every iteration. For HITS it is the sum of the L1 norms of
+	 * the changes of the normalized hub vector and of the normalized authority
+	 * vector.
+	 * 
+	 * @return Array : (Iteration) -> (Residual)
+	 */
+	public double[] getResiduals();
+
+	/**
+	 * Returns True if the residual dropped below epsilon and False if the
+	 * computation stopped at the maximum number of iterations.
+	 * 
+	 * @return True if the computation converged and False otherwise.
+	 */
+	public boolean hasConverged();
+
+	/**
+	 * Returns the wall clock time of the computation in milliseconds.
+	 * 
+	 * @return Elapsed time in milliseconds.
+	 */
+	public long getElapsedTime();
+}
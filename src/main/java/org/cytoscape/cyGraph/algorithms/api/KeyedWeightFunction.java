@@ -0,0 +1,36 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.util.Collection;
+
+/**
+ * WeightFunction with a key identifying the weights it returns. Two keyed
+ * weight functions with equal keys must return the same weight for every
+ * CyEdge. A ResultCache uses the key to recognize equivalent weight functions;
+ * weight functions without a key are only recognized by object identity.
+ * <p>
+ * The weights usually come from table columns. A keyed weight function that
+ * names the columns it reads lets the cache keep its results across edits of
+ * other columns; one that does not is treated as reading every column.
+ * 
+ */
+public interface KeyedWeightFunction extends WeightFunction {
+
+	/**
+	 * Returns the key of the weight function. It must implement
+	 * <code>equals</code> and <code>hashCode</code>.
+	 * 
+	 * @return Key
+	 */
+	public Object getKey();
+
+	/**
+	 * Returns the names of the columns of the default node and edge tables
+	 * the weights are computed from, or null if they are not known.
+	 * 
+	 * @return Column names, or null.
+	 */
+	public Collection<String> getColumns();
+}
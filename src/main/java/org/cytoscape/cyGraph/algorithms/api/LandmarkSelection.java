@@ -0,0 +1,26 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * The strategies that can be used to pick the landmarks of a DistanceOracle.
+ * 
+ */
+public enum LandmarkSelection {
+
+	/**
+	 * Landmarks are picked uniformly at random.
+	 */
+	RANDOM,
+
+	/**
+	 * The nodes with the highest degree are picked.
+	 */
+	DEGREE,
+
+	/**
+	 * Every landmark is the node farthest from the landmarks picked so far.
+	 */
+	FARTHEST
+}
@@ -0,0 +1,35 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * The parallel algorithms that can be used to compute a minimum spanning
+ * forest of a GraphSnapshot.
+ * 
+ * @see GraphAlgorithms#findSpanningForest(GraphSnapshot, MSTAlgorithm, int)
+ */
+public enum MSTAlgorithm {
+
+	/**
+	 * The algorithm is chosen from the size and density of the snapshot.
+	 */
+	AUTO,
+
+	/**
+	 * Boruvka's algorithm: every component picks its lightest outgoing edge
+	 * in parallel and the components are merged, until no edge is left.
+	 * 
+	 * @see <a href =
+	 *      "http://en.wikipedia.org/wiki/Bor%C5%AFvka%27s_algorithm">Boruvka's
+	 *      algorithm</a>
+	 */
+	BORUVKA,
+
+	/**
+	 * Filter-Kruskal: Kruskal's algorithm on a quicksort style partition of
+	 * the edge weights, where edges inside an existing component are filtered
+	 * out in parallel before the heavier partitions are sorted.
+	 */
+	FILTER_KRUSKAL
+}
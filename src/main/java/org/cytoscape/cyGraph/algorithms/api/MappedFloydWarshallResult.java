@@ -0,0 +1,31 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import java.io.Closeable;
+import java.io.File;
+
+/**
+ * FloydWarshallResult whose distances, and optionally next hops, are read
+ * through a memory mapping of a file. The mapping is held until
+ * {@link #close()} is called; after that the result must not be used. Until it
+ * is closed the file may not be deletable on some platforms.
+ * <p>
+ * Besides the matrix the file holds the number of nodes, a key for every node
+ * taken from a column of the node table, the directed and weighted flags of
+ * the snapshot, and a fingerprint of its structure and weights. They are used to match the rows to the nodes
+ * of a snapshot when the file is opened again.
+ * 
+ * @see GraphAlgorithms#openAllPairShortestPath(GraphSnapshot, File, String)
+ */
+public interface MappedFloydWarshallResult extends FloydWarshallResult,
+		Closeable {
+
+	/**
+	 * Returns the file the result is read from.
+	 * 
+	 * @return File
+	 */
+	public File getFile();
+}
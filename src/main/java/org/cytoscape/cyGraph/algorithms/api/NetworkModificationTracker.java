@@ -0,0 +1,82 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNetwork;
+
+/**
+ * Keeps modification counts for every CyNetwork. Results computed from a
+ * network can record a count and compare it later to find out whether they
+ * are out of date.
+ * <p>
+ * The structure count is increased whenever nodes or edges are added to or
+ * removed from the network. Each column count is increased whenever a value
+ * in that column of the default node or edge table of the network is set.
+ * The modification count covers both, so it changes on any edit a weight
+ * function could depend on, including edits of the "selected" column, which
+ * Cytoscape rewrites on every selection in the UI. Results that only depend
+ * on the structure and the weights should therefore use
+ * {@link #getModificationCount(CyNetwork, WeightFunction)} instead.
+ * 
+ */
+public interface NetworkModificationTracker {
+
+	/**
+	 * Returns the current modification count of a CyNetwork, increased by
+	 * every structural change and by every change of a row of its default
+	 * node or edge table.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @return Modification count.
+	 */
+	public long getModificationCount(CyNetwork network);
+
+	/**
+	 * Returns a modification count of a CyNetwork that only changes on the
+	 * edits a computation with a given WeightFunction depends on:
+	 * <ul>
+	 * <li>without a weight function, the structure modification count;</li>
+	 * <li>with a KeyedWeightFunction that declares its columns, the sum of the
+	 * structure modification count and the modification counts of those
+	 * columns;</li>
+	 * <li>otherwise, the modification count, since the columns the function
+	 * reads are not known.</li>
+	 * </ul>
+	 * All the counts only increase, so the sum changes whenever one of them
+	 * does.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param function
+	 *            WeightFunction, or null for an unweighted computation.
+	 * @return Modification count relevant to the weight function.
+	 * @see KeyedWeightFunction#getColumns()
+	 */
+	public long getModificationCount(CyNetwork network,
+			WeightFunction function);
+
+	/**
+	 * Returns the number of times nodes or edges have been added to or
+	 * removed from a CyNetwork.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @return Structure modification count.
+	 */
+	public long getStructureModificationCount(CyNetwork network);
+
+	/**
+	 * Returns the number of times a value in a given column of the default
+	 * node or edge table of a CyNetwork has been set. The count is 0 for a
+	 * column that has never been written.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 * @param column
+	 *            Name of the column.
+	 * @return Column modification count.
+	 */
+	public long getColumnModificationCount(CyNetwork network, String column);
+}
@@ -0,0 +1,36 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * PagerankResults relative to a set of seed nodes, approximated by local push.
+ * Only the nodes reached by the push have a score; all other nodes have a
+ * pagerank of 0.
+ * 
+ */
+public interface PersonalizedPagerankResults extends PagerankResults {
+
+	/**
+	 * Returns the nodes with the highest personalized pagerank, sorted by
+	 * decreasing score.
+	 * 
+	 * @return RankedNodes
+	 */
+	public RankedNodes getTopNodes();
+
+	/**
+	 * Returns an upper bound on the difference between the approximated and
+	 * the exact personalized pagerank of any node, divided by its degree.
+	 * 
+	 * @return Error bound.
+	 */
+	public double getMaxError();
+
+	/**
+	 * Returns the number of push operations performed.
+	 * 
+	 * @return Number of pushes.
+	 */
+	public long getPushCount();
+}
@@ -0,0 +1,61 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the shortest path and distance between a single
+ * pair of CyNodes as computed by a point to point search.
+ * 
+ */
+public interface PointToPointResult {
+
+	/**
+	 * Returns the source CyNode.
+	 * 
+	 * @return Source CyNode.
+	 */
+	public CyNode getSource();
+
+	/**
+	 * Returns the target CyNode.
+	 * 
+	 * @return Target CyNode.
+	 */
+	public CyNode getTarget();
+
+	/**
+	 * Returns True if there is a path from the source CyNode to the target
+	 * CyNode and False otherwise.
+	 * 
+	 * @return True if there is path from the source CyNode to the target CyNode
+	 *         and False otherwise.
+	 */
+	public boolean hasPath();
+
+	/**
+	 * Returns the distance from the source CyNode to the target CyNode, or
+	 * <code>Double.POSITIVE_INFINITY</code> if there is no path.
+	 * 
+	 * @return Distance from the source CyNode to the target CyNode.
+	 */
+	public double getDistance();
+
+	/**
+	 * Returns the path from the source CyNode to the target CyNode as a
+	 * sequence of CyNodes.
+	 * 
+	 * @return Sequence of nodes from source CyNode to target CyNode
+	 *         constituting the shortest path.
+	 */
+	public Iterable<CyNode> getPath();
+
+	/**
+	 * Returns the number of CyNodes settled by the search before it stopped.
+	 * 
+	 * @return Number of settled nodes.
+	 */
+	public int getSettledCount();
+}
@@ -0,0 +1,38 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * A list of CyNodes with scores, sorted by decreasing score.
+ * 
+ */
+public interface RankedNodes {
+
+	/**
+	 * Returns the number of CyNodes in the list.
+	 * 
+	 * @return Number of nodes.
+	 */
+	public int size();
+
+	/**
+	 * Returns the CyNode at a given rank.
+	 * 
+	 * @param rank
+	 *            Rank, between 0 (highest score) and <code>size() - 1</code>.
+	 * @return CyNode
+	 */
+	public CyNode getNode(int rank);
+
+	/**
+	 * Returns the score of the CyNode at a given rank.
+	 * 
+	 * @param rank
+	 *            Rank, between 0 (highest score) and <code>size() - 1</code>.
+	 * @return Score
+	 */
+	public double getScore(int rank);
+}
@@ -0,0 +1,77 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+import org.cytoscape.model.CyNetwork;
+
+/**
+ * Cache of algorithm results shared by {@link CachedGraphAlgorithms} and
+ * {@link org.cytoscape.cyGraph.centralities.api.CachedCentralities}.
+ * <p>
+ * A result is keyed by the method, the SUID of the CyNetwork, the directed
+ * flag, the other parameters and the weight function, which is compared by
+ * {@link KeyedWeightFunction#getKey()} when it has a key and by identity
+ * otherwise. The number of worker threads is not part of the key. A result
+ * also records the modification count of the network it depends on, as
+ * returned by
+ * {@link NetworkModificationTracker#getModificationCount(CyNetwork, WeightFunction)}
+ * for its weight function, so edits of columns the weights do not depend on,
+ * such as selecting nodes, keep it valid. A result whose recorded count
+ * differs from the current one is not returned. Results computed on a
+ * GraphSnapshot are keyed by the snapshot itself, which does not change. When the cache exceeds its size or memory
+ * limit the least recently used results are evicted.
+ * 
+ */
+public interface ResultCache {
+
+	/**
+	 * Sets the maximum number of results held.
+	 * 
+	 * @param size
+	 *            Maximum number of results.
+	 */
+	public void setMaximumSize(int size);
+
+	/**
+	 * Returns the maximum number of results held.
+	 * 
+	 * @return Maximum number of results.
+	 */
+	public int getMaximumSize();
+
+	/**
+	 * Sets the maximum estimated memory of the results held.
+	 * 
+	 * @param bytes
+	 *            Maximum memory in bytes.
+	 */
+	public void setMaximumMemory(long bytes);
+
+	/**
+	 * Returns the maximum estimated memory of the results held.
+	 * 
+	 * @return Maximum memory in bytes.
+	 */
+	public long getMaximumMemory();
+
+	/**
+	 * Returns the usage counters of the cache.
+	 * 
+	 * @return CacheStatistics
+	 */
+	public CacheStatistics getStatistics();
+
+	/**
+	 * Removes all the results computed for a given CyNetwork.
+	 * 
+	 * @param network
+	 *            CyNetwork
+	 */
+	public void invalidate(CyNetwork network);
+
+	/**
+	 * Removes all results.
+	 */
+	public void clear();
+}
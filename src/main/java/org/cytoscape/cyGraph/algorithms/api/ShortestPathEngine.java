@@ -0,0 +1,39 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * The implementations of single source shortest path search that can be used
+ * on a GraphSnapshot.
+ * 
+ * @see GraphAlgorithms#findPath(GraphSnapshot, org.cytoscape.model.CyNode,
+ *      ShortestPathEngine, int)
+ */
+public enum ShortestPathEngine {
+
+	/**
+	 * The engine is chosen from the size of the snapshot and the distribution
+	 * of its edge weights.
+	 */
+	AUTO,
+
+	/**
+	 * Dijkstra with an indexed d-ary heap of primitive keys.
+	 */
+	D_ARY_HEAP,
+
+	/**
+	 * Dijkstra with a radix heap. Requires all edge weights to be
+	 * non-negative integers; {@link #AUTO} only picks it when they are, and
+	 * asking for it explicitly on a snapshot with a fractional weight is
+	 * rejected rather than rounding the weights.
+	 */
+	RADIX_HEAP,
+
+	/**
+	 * Parallel delta-stepping (Meyer and Sanders), for single searches on
+	 * very large snapshots.
+	 */
+	DELTA_STEPPING
+}
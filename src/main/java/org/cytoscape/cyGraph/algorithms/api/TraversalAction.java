@@ -0,0 +1,31 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.algorithms.api;
+
+/**
+ * Tells a traversal how to continue after a BatchCallback has seen a batch of
+ * visited nodes.
+ * 
+ */
+public enum TraversalAction {
+
+	/**
+	 * Continue the traversal.
+	 */
+	CONTINUE,
+
+	/**
+	 * Continue the traversal, but do not expand the nodes of the batch that
+	 * have not been expanded yet, i.e. do not visit their neighbors from them.
+	 * A node of the batch may already have been expanded before the batch was
+	 * reported, in which case the nodes reached from it stay visited; only
+	 * with a batch size of 1 is the whole subtree below the node skipped.
+	 */
+	PRUNE,
+
+	/**
+	 * Stop the traversal.
+	 */
+	STOP
+}
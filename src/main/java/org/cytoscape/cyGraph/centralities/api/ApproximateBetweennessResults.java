@@ -0,0 +1,88 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import java.util.Map;
+
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the node and edge betweenness estimated from a
+ * sample of shortest paths, together with a confidence interval for every
+ * node. Estimates are on the same scale as the exact values returned by
+ * {@link Centralities#getBetweennessStress(org.cytoscape.model.CyNetwork, boolean)}.
+ * 
+ */
+public interface ApproximateBetweennessResults {
+
+	/**
+	 * Returns the estimated node betweenness map i.e. a map from CyNode to
+	 * betweenness value.
+	 * 
+	 * @return Map : (CyNode) -> (Betweenness)
+	 */
+	public Map<CyNode, Double> getBetweennessMap();
+
+	/**
+	 * Returns the estimated edge betweenness map i.e. a map from CyEdge to
+	 * betweenness value.
+	 * 
+	 * @return Map : (CyEdge) -> (Betweenness)
+	 */
+	public Map<CyEdge, Double> getEdgeBetweennessMap();
+
+	/**
+	 * Returns the estimated betweenness of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Estimated betweenness.
+	 */
+	public double getBetweenness(CyNode node);
+
+	/**
+	 * Returns the lower end of the confidence interval of the betweenness of a
+	 * given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Lower bound of the betweenness.
+	 */
+	public double getLowerBound(CyNode node);
+
+	/**
+	 * Returns the upper end of the confidence interval of the betweenness of a
+	 * given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Upper bound of the betweenness.
+	 */
+	public double getUpperBound(CyNode node);
+
+	/**
+	 * Returns the number of sampled shortest paths.
+	 * 
+	 * @return Sample size.
+	 */
+	public long getSampleSize();
+
+	/**
+	 * Returns the additive error of the estimates, relative to the number of
+	 * node pairs. If the computation was limited by a time budget this is the
+	 * error achieved by the samples taken within the budget.
+	 * 
+	 * @return Epsilon
+	 */
+	public double getEpsilon();
+
+	/**
+	 * Returns the probability that the exact value of some node lies outside
+	 * its confidence interval.
+	 * 
+	 * @return Delta
+	 */
+	public double getDelta();
+}
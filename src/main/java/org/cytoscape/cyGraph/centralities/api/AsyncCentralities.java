@@ -0,0 +1,69 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.cytoscape.cyGraph.algorithms.api.AsyncExecution;
+import org.cytoscape.cyGraph.algorithms.api.WeightFunction;
+import org.cytoscape.model.CyIdentifiable;
+import org.cytoscape.model.CyNetwork;
+
+/**
+ * Asynchronous facade of Centralities. Every method returns immediately with a
+ * Future of the result, and the computation runs on the configured
+ * ExecutorService with the given deadline.
+ * 
+ * @see AsyncExecution
+ */
+public interface AsyncCentralities extends AsyncExecution {
+
+	/**
+	 * Computes the selected centrality measures asynchronously.
+	 * 
+	 * @param network
+	 *            The CyNetwork for which the user wants to compute centrality
+	 *            measures.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param measures
+	 *            The measures to compute.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the NetworkStatsResults.
+	 * @see Centralities#computeAll(CyNetwork, boolean, WeightFunction, Set)
+	 */
+	public Future<NetworkStatsResults> computeAll(CyNetwork network,
+			boolean directed, WeightFunction function,
+			Set<CentralityMeasure> measures, long timeout, TimeUnit unit);
+
+	/**
+	 * Computes node, edge betweenness and node stress asynchronously.
+	 * 
+	 * @param network
+	 *            The CyNetwork for which the user wants to compute node, edge
+	 *            betweenness and node stress.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param timeout
+	 *            Time after which the request fails.
+	 * @param unit
+	 *            TimeUnit of the timeout.
+	 * @return Future of the Map of CyNode -> (Betweenness, Stress), CyEdge ->
+	 *         (Betweenness)
+	 * @see Centralities#getBetweennessStress(CyNetwork, boolean)
+	 */
+	public Future<Map<CyIdentifiable, List<Double>>> getBetweennessStress(
+			CyNetwork network, boolean directed, long timeout, TimeUnit unit);
+}
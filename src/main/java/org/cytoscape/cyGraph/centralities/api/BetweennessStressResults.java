@@ -0,0 +1,87 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import java.util.List;
+import java.util.Map;
+
+import org.cytoscape.cyGraph.algorithms.api.GraphSnapshot;
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyIdentifiable;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the node betweenness, edge betweenness and node
+ * stress computed on a GraphSnapshot. The values are stored in arrays indexed
+ * by the node and edge indices of the snapshot.
+ * 
+ */
+public interface BetweennessStressResults {
+
+	/**
+	 * Returns the GraphSnapshot the values were computed on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the betweenness of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Betweenness
+	 */
+	public double getBetweenness(CyNode node);
+
+	/**
+	 * Returns the stress of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Stress
+	 */
+	public double getStress(CyNode node);
+
+	/**
+	 * Returns the betweenness of a given CyEdge.
+	 * 
+	 * @param edge
+	 *            CyEdge
+	 * @return Betweenness
+	 */
+	public double getEdgeBetweenness(CyEdge edge);
+
+	/**
+	 * Returns the node betweenness values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Betweenness)
+	 */
+	public double[] getBetweennessArray();
+
+	/**
+	 * Returns the node stress values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Stress)
+	 */
+	public double[] getStressArray();
+
+	/**
+	 * Returns the edge betweenness values indexed by edge index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Edge index) -> (Betweenness)
+	 */
+	public double[] getEdgeBetweennessArray();
+
+	/**
+	 * Returns the values in the form returned by
+	 * {@link Centralities#getBetweennessStress(org.cytoscape.model.CyNetwork, boolean)}.
+	 * 
+	 * @return Map of CyNode -> (Betweenness, Stress), CyEdge -> (Betweenness)
+	 */
+	public Map<CyIdentifiable, List<Double>> asMap();
+}
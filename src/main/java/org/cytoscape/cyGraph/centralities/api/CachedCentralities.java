@@ -0,0 +1,35 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.cyGraph.algorithms.api.ResultCache;
+
+/**
+ * Centralities that return results from a ResultCache when the same
+ * computation was already done on the unchanged network.
+ * <p>
+ * The following methods always run and never touch the cache, because they
+ * create a stateful object, write to the network tables, or return a result
+ * that depends on the time available rather than on the network:
+ * <ul>
+ * <li>{@link #getDegreeIndex(org.cytoscape.model.CyNetwork)}</li>
+ * <li>both overloads of <code>writeToTables</code></li>
+ * <li>{@link #getApproximateBetweenness(
+ * org.cytoscape.cyGraph.algorithms.api.GraphSnapshot, long,
+ * java.util.concurrent.TimeUnit, double, long, int)}</li>
+ * <li>{@link #getDiameterBounds(
+ * org.cytoscape.cyGraph.algorithms.api.GraphSnapshot, long,
+ * java.util.concurrent.TimeUnit)}</li>
+ * </ul>
+ * 
+ */
+public interface CachedCentralities extends Centralities {
+
+	/**
+	 * Returns the ResultCache holding the results.
+	 * 
+	 * @return ResultCache
+	 */
+	public ResultCache getCache();
+}
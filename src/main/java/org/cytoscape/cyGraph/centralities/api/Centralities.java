@@ -5,7 +5,10 @@ package org.cytoscape.cyGraph.centralities.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.cytoscape.cyGraph.algorithms.api.GraphSnapshot;
 import org.cytoscape.cyGraph.algorithms.api.WeightFunction;
 import org.cytoscape.model.CyIdentifiable;
 import org.cytoscape.model.CyNetwork;
@@ -36,6 +39,93 @@ public interface Centralities {
 	public NetworkStatsResults computeAll(CyNetwork network, boolean directed,
 			WeightFunction function);
 
+	/**
+	 * Computes all the centrality measures on a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute
+	 *            centrality measures.
+	 * @return An instance of IndexedNetworkStatsResults that stores the
+	 *         measures in arrays indexed by the node and edge indices of the
+	 *         snapshot.
+	 * @see #computeAll(CyNetwork, boolean, WeightFunction)
+	 */
+	public IndexedNetworkStatsResults computeAll(GraphSnapshot snapshot);
+
+	/**
+	 * Computes all the centrality measures on a GraphSnapshot using a given
+	 * number of worker threads for the betweenness and stress computation.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute
+	 *            centrality measures.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedNetworkStatsResults that stores the
+	 *         measures in arrays indexed by the node and edge indices of the
+	 *         snapshot.
+	 * @see #getBetweennessStress(GraphSnapshot, int)
+	 */
+	public IndexedNetworkStatsResults computeAll(GraphSnapshot snapshot,
+			int parallelism);
+
+	/**
+	 * Computes the selected centrality measures, skipping the measures that
+	 * were not selected. Betweenness, edge betweenness and stress ignore edge
+	 * weights, as in {@link #getBetweennessStress(CyNetwork, boolean)}. The
+	 * distance based measures (closeness, eccentricity, radiality and
+	 * diameter) use the weights. Without a weight function all of them come
+	 * from a single breadth first search per source node; with one, each
+	 * source gets a Dijkstra run for the distance based measures and a
+	 * separate breadth first search for betweenness and stress, each run only
+	 * if one of its measures was selected.
+	 * 
+	 * @param network
+	 *            The CyNetwork for which the user wants to compute centrality
+	 *            measures.
+	 * @param directed
+	 *            True if the network is to be treated as directed and false
+	 *            otherwise.
+	 * @param function
+	 *            WeightFunction mapping each edge to a weight.
+	 * @param measures
+	 *            The measures to compute.
+	 * @return An instance of NetworkStatsResults. For the measures that were
+	 *         not selected the Map getters return null and
+	 *         {@link NetworkStatsResults#getDiameter()} returns NaN.
+	 */
+	public NetworkStatsResults computeAll(CyNetwork network, boolean directed,
+			WeightFunction function, Set<CentralityMeasure> measures);
+
+	/**
+	 * Computes the selected centrality measures on a GraphSnapshot. As in
+	 * {@link #computeAll(CyNetwork, boolean, WeightFunction, Set)},
+	 * betweenness and stress always ignore edge weights, so on a weighted
+	 * snapshot they take a breadth first search per source node in addition
+	 * to the Dijkstra run used for the distance based measures; on an
+	 * unweighted snapshot one breadth first search per source serves all of
+	 * them. The source nodes are split across the given number of worker
+	 * threads.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute
+	 *            centrality measures.
+	 * @param measures
+	 *            The measures to compute.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of IndexedNetworkStatsResults. For the measures
+	 *         that were not selected the Map and array getters return null,
+	 *         while the per-node and per-edge getters, such as
+	 *         {@link IndexedNetworkStatsResults#getBetweenness(CyNode)}, and
+	 *         {@link NetworkStatsResults#getDiameter()} return NaN.
+	 * @see #computeAll(CyNetwork, boolean, WeightFunction, Set)
+	 */
+	public IndexedNetworkStatsResults computeAll(GraphSnapshot snapshot,
+			Set<CentralityMeasure> measures, int parallelism);
+
 	/**
 	 * Computes node, edge betweenness and node stress and returns a Map from
 	 * CyNode -> (Betweenness, Stress) and CyEdge -> (Betweenness)
@@ -51,6 +141,102 @@ public interface Centralities {
 	public Map<CyIdentifiable, List<Double>> getBetweennessStress(
 			CyNetwork network, boolean directed);
 
+	/**
+	 * Computes node, edge betweenness and node stress on a GraphSnapshot.
+	 * Edge weights are ignored.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute node,
+	 *            edge betweenness and node stress.
+	 * @return Map of CyNode -> (Betweenness, Stress), CyEdge -> (Betweenness)
+	 * @see #getBetweennessStress(CyNetwork, boolean)
+	 */
+	public Map<CyIdentifiable, List<Double>> getBetweennessStress(
+			GraphSnapshot snapshot);
+
+	/**
+	 * Computes node, edge betweenness and node stress on a GraphSnapshot with
+	 * Brandes' algorithm on a fork-join pool of the given size. The source
+	 * nodes are split into fixed, contiguous partitions that depend only on
+	 * the number of nodes and the parallelism, and each partition has its own
+	 * accumulator arrays, filled in increasing order of source index by
+	 * whichever worker runs the partition. The accumulators are summed in
+	 * partition order at the end. Work stealing therefore only changes which
+	 * thread runs a partition, not the order of the floating-point sums, so
+	 * the results are the same for repeated runs with the same parallelism.
+	 * Edge weights are ignored.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute node,
+	 *            edge betweenness and node stress.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of BetweennessStressResults that provides methods to
+	 *         access the betweenness and stress values.
+	 * @see <a href =
+	 *      "http://www.inf.uni-konstanz.de/algo/publications/b-fabc-01.pdf">A
+	 *      Faster Algorithm for Betweenness Centrality</a>
+	 */
+	public BetweennessStressResults getBetweennessStress(
+			GraphSnapshot snapshot, int parallelism);
+
+	/**
+	 * Estimates node and edge betweenness on a GraphSnapshot by sampling
+	 * shortest paths between random node pairs. The sample size is derived
+	 * from the vertex diameter of the snapshot so that, with probability at
+	 * least 1 - delta, every estimate is within epsilon of the exact value
+	 * (both normalized by the number of node pairs). Edge weights are ignored.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to estimate
+	 *            betweenness.
+	 * @param epsilon
+	 *            Maximum additive error of the normalized estimates.
+	 * @param delta
+	 *            Probability that the error bound does not hold.
+	 * @param seed
+	 *            Seed of the random number generator used for sampling.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of ApproximateBetweennessResults that provides
+	 *         methods to access the estimates and their confidence intervals.
+	 * @see <a href = "http://dx.doi.org/10.1145/2556195.2556224">Fast
+	 *      Approximation of Betweenness Centrality through Sampling</a>
+	 */
+	public ApproximateBetweennessResults getApproximateBetweenness(
+			GraphSnapshot snapshot, double epsilon, double delta, long seed,
+			int parallelism);
+
+	/**
+	 * Estimates node and edge betweenness on a GraphSnapshot by sampling
+	 * shortest paths until the given time budget is used up. The confidence
+	 * intervals of the result reflect the number of samples taken.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to estimate
+	 *            betweenness.
+	 * @param timeBudget
+	 *            Maximum time to spend sampling.
+	 * @param unit
+	 *            TimeUnit of the time budget.
+	 * @param delta
+	 *            Probability that the confidence intervals do not hold.
+	 * @param seed
+	 *            Seed of the random number generator used for sampling.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of ApproximateBetweennessResults that provides
+	 *         methods to access the estimates and their confidence intervals.
+	 * @see #getApproximateBetweenness(GraphSnapshot, double, double, long,
+	 *      int)
+	 */
+	public ApproximateBetweennessResults getApproximateBetweenness(
+			GraphSnapshot snapshot, long timeBudget, TimeUnit unit,
+			double delta, long seed, int parallelism);
+
 	/**
 	 * Computes the closeness centrality of a given CyNode.
 	 * 
@@ -71,6 +257,19 @@ public interface Centralities {
 	public double getCloseness(CyNetwork network, CyNode node,
 			boolean directed, WeightFunction function);
 
+	/**
+	 * Computes the closeness centrality of a given CyNode in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the closeness
+	 *            measure.
+	 * @return The closeness value of the node.
+	 * @see #getCloseness(CyNetwork, CyNode, boolean, WeightFunction)
+	 */
+	public double getCloseness(GraphSnapshot snapshot, CyNode node);
+
 	/**
 	 * Computes the clustering coefficient of a given CyNode.
 	 * 
@@ -88,6 +287,38 @@ public interface Centralities {
 	public double getClusteringCoefficient(CyNetwork network, CyNode node,
 			boolean directed);
 
+	/**
+	 * Computes the clustering coefficient of a given CyNode in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the clustering
+	 *            coefficient.
+	 * @return The clustering coefficient value of node.
+	 * @see #getClusteringCoefficient(CyNetwork, CyNode, boolean)
+	 */
+	public double getClusteringCoefficient(GraphSnapshot snapshot, CyNode node);
+
+	/**
+	 * Computes the triangle counts, local clustering coefficients and global
+	 * transitivity of all the nodes of a GraphSnapshot in one pass. Edges are
+	 * oriented from lower to higher degree and triangles are found by
+	 * intersecting sorted neighbor arrays, with the nodes split across the
+	 * given number of worker threads.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            clustering coefficients.
+	 * @param parallelism
+	 *            Number of worker threads, or 0 to use one thread per
+	 *            available processor.
+	 * @return An instance of ClusteringResults that provides methods to access
+	 *         the triangle counts and clustering coefficients.
+	 */
+	public ClusteringResults getClusteringCoefficients(GraphSnapshot snapshot,
+			int parallelism);
+
 	/**
 	 * Returns the degree centrality of a given node.
 	 * 
@@ -100,6 +331,32 @@ public interface Centralities {
 	 */
 	public int getDegree(CyNetwork network, CyNode node);
 
+	/**
+	 * Returns the degree centrality of a given node in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the degree.
+	 * @return The degree.
+	 */
+	public int getDegree(GraphSnapshot snapshot, CyNode node);
+
+	/**
+	 * Returns a DegreeIndex of a CyNetwork. The degrees are computed on the
+	 * first call and afterwards updated incrementally as nodes and edges are
+	 * added and removed, so later calls share them without recomputing any
+	 * degree. Each call returns a new handle, which the caller disposes when
+	 * done with it; the shared degrees are dropped when all handles are
+	 * disposed or when the network is destroyed.
+	 * 
+	 * @param network
+	 *            The CyNetwork for which the user wants the degrees of all
+	 *            nodes.
+	 * @return The DegreeIndex of the network.
+	 */
+	public DegreeIndex getDegreeIndex(CyNetwork network);
+
 	/**
 	 * Returns the in degree of a given CyNode in a directed CyNetwork.
 	 * 
@@ -112,6 +369,17 @@ public interface Centralities {
 	 */
 	public int getIndegree(CyNetwork network, CyNode node);
 
+	/**
+	 * Returns the in degree of a given CyNode in a directed GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the in-degree.
+	 * @return The in-degree.
+	 */
+	public int getIndegree(GraphSnapshot snapshot, CyNode node);
+
 	/**
 	 * Returns the diameter of the CyNetwork
 	 * 
@@ -127,6 +395,67 @@ public interface Centralities {
 	public double getDiameter(CyNetwork network, boolean directed,
 			WeightFunction function);
 
+	/**
+	 * Returns the diameter of a GraphSnapshot, computed exactly with the iFUB
+	 * technique rather than from the eccentricities of all nodes. The diameter
+	 * is the largest finite distance between two nodes, with the same
+	 * handling of disconnected and directed snapshots as
+	 * {@link #getDiameterBounds(GraphSnapshot, long, TimeUnit)}.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            diameter.
+	 * @return The diameter of the given GraphSnapshot.
+	 * @see #getDiameter(CyNetwork, boolean, WeightFunction)
+	 * @see #getDiameterBounds(GraphSnapshot, long, TimeUnit)
+	 */
+	public double getDiameter(GraphSnapshot snapshot);
+
+	/**
+	 * Computes lower and upper bounds on the diameter of a GraphSnapshot
+	 * within a time budget. A double sweep from a high degree node gives the
+	 * first lower bound, and further searches from the fringe of the sweep
+	 * (iFUB, Crescenzi et al.) raise the lower bound and lower the upper
+	 * bound until they meet or the budget is used up. On most real-world
+	 * networks a handful of searches gives the exact diameter. Searches are
+	 * breadth first for unweighted snapshots and Dijkstra for weighted ones.
+	 * <p>
+	 * As in {@link #getDiameter(CyNetwork, boolean, WeightFunction)}, the
+	 * diameter is the largest finite distance between two nodes, so pairs
+	 * with no path between them are ignored. The iFUB upper bound only holds
+	 * within a connected undirected graph, so a disconnected snapshot is
+	 * handled one connected component at a time, and the bounds are the
+	 * largest bounds of any component; components whose upper bound is
+	 * already below the lower bound found so far are skipped.
+	 * <p>
+	 * The directed variant of the technique (DiFUB), which alternates forward
+	 * searches along the out-edges with backward searches along the
+	 * in-edges, needs every node to be reachable from and to its root, so a
+	 * directed snapshot is handled one strongly connected component at a
+	 * time. Distances between nodes of different strongly connected
+	 * components are found exhaustively: every node whose component has an
+	 * edge to another component gets a full forward search. Until all of
+	 * those searches are done, the upper bound of a weakly connected
+	 * component is its number of nodes minus one times its largest edge
+	 * weight, which no shortest path can exceed. The result is therefore only
+	 * reported exact once the bounds have met on sound bounds, and a directed
+	 * snapshot with many strongly connected components may need as many
+	 * searches as it has nodes.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            diameter.
+	 * @param timeBudget
+	 *            Maximum time to spend, or <code>Long.MAX_VALUE</code> to run
+	 *            until the diameter is exact.
+	 * @param unit
+	 *            TimeUnit of the time budget.
+	 * @return An instance of DiameterResults that provides methods to access
+	 *         the bounds.
+	 */
+	public DiameterResults getDiameterBounds(GraphSnapshot snapshot,
+			long timeBudget, TimeUnit unit);
+
 	/**
 	 * Returns the out degree of a given node in a directed CyNetwork.
 	 * 
@@ -139,6 +468,17 @@ public interface Centralities {
 	 */
 	public int getOutdegree(CyNetwork network, CyNode node);
 
+	/**
+	 * Returns the out degree of a given node in a directed GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the out-degree.
+	 * @return The out-degree.
+	 */
+	public int getOutdegree(GraphSnapshot snapshot, CyNode node);
+
 	/**
 	 * Computes the eccentricity of a given CyNode.
 	 * 
@@ -158,6 +498,19 @@ public interface Centralities {
 	public double getEccentricity(CyNetwork network, CyNode node,
 			boolean directed, WeightFunction function);
 
+	/**
+	 * Computes the eccentricity of a given CyNode in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the
+	 *            eccentricity.
+	 * @return The eccentricity measure of the node.
+	 * @see #getEccentricity(CyNetwork, CyNode, boolean, WeightFunction)
+	 */
+	public double getEccentricity(GraphSnapshot snapshot, CyNode node);
+
 	/**
 	 * Computes the radiality measure of a given CyNode.
 	 * 
@@ -176,4 +529,65 @@ public interface Centralities {
 	 */
 	public double getRadiality(CyNetwork network, CyNode node,
 			boolean directed, WeightFunction function);
+
+	/**
+	 * Computes the radiality measure of a given CyNode in a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot containing the node.
+	 * @param node
+	 *            The CyNode for which the user wants to compute the radiality
+	 *            measure.
+	 * @return The radiality measure of the node.
+	 * @see #getRadiality(CyNetwork, CyNode, boolean, WeightFunction)
+	 */
+	public double getRadiality(GraphSnapshot snapshot, CyNode node);
+
+	/**
+	 * Writes the selected measures of a NetworkStatsResults into the default
+	 * node, edge and network tables of a CyNetwork, using the default column
+	 * name of each measure. Missing columns are created with type Double. All
+	 * the rows of all the tables are written while the row events of the
+	 * tables are held back, and the held events are delivered together at the
+	 * end, so that the whole call causes a single refresh.
+	 * <p>
+	 * Measures that were not computed, i.e. whose map in the results is null
+	 * (or whose diameter is NaN), are skipped: their columns are neither
+	 * created nor changed.
+	 * 
+	 * @param network
+	 *            The CyNetwork whose tables the measures are written to.
+	 * @param results
+	 *            The NetworkStatsResults computed for the network.
+	 * @param measures
+	 *            The measures to write.
+	 * @throws IllegalArgumentException
+	 *             If one of the columns already exists with a type other than
+	 *             Double.
+	 * @see CentralityMeasure#getColumnName()
+	 * @see CentralityMeasure#getTarget()
+	 */
+	public void writeToTables(CyNetwork network, NetworkStatsResults results,
+			Set<CentralityMeasure> measures);
+
+	/**
+	 * Writes the selected measures of a NetworkStatsResults into named columns
+	 * of the default node, edge and network tables of a CyNetwork. Missing
+	 * columns are created with type Double. As with
+	 * {@link #writeToTables(CyNetwork, NetworkStatsResults, Set)} the whole
+	 * call is written as one batch causing a single refresh, and measures that
+	 * were not computed are skipped.
+	 * 
+	 * @param network
+	 *            The CyNetwork whose tables the measures are written to.
+	 * @param results
+	 *            The NetworkStatsResults computed for the network.
+	 * @param columnNames
+	 *            Map : (Measure to write) -> (Column name)
+	 * @throws IllegalArgumentException
+	 *             If one of the columns already exists with a type other than
+	 *             Double.
+	 */
+	public void writeToTables(CyNetwork network, NetworkStatsResults results,
+			Map<CentralityMeasure, String> columnNames);
 }
@@ -0,0 +1,95 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+/**
+ * The measures available in a NetworkStatsResults, together with the default
+ * name of the table column each of them is written to and the table that
+ * column belongs to.
+ * 
+ */
+public enum CentralityMeasure {
+
+	/**
+	 * Node betweenness: for every pair of other nodes, the fraction of their
+	 * shortest paths that pass through the node, summed over all pairs. Not
+	 * normalized, so it ranges from 0 to the number of node pairs. Edge
+	 * weights are ignored. Written to the node table.
+	 */
+	BETWEENNESS("Betweenness", MeasureTarget.NODE),
+
+	/**
+	 * Closeness: the reciprocal of the average shortest path distance from
+	 * the node to the nodes it can reach, between 0 and 1 for unit weights.
+	 * Written to the node table.
+	 */
+	CLOSENESS("Closeness", MeasureTarget.NODE),
+
+	/**
+	 * Local clustering coefficient: the fraction of pairs of neighbors of the
+	 * node that are adjacent, between 0 and 1. Written to the node table.
+	 */
+	CLUSTERING_COEFFICIENT("ClusteringCoefficient", MeasureTarget.NODE),
+
+	/**
+	 * Diameter: the largest finite shortest path distance between two nodes,
+	 * in the unit of the edge weights. Written to the network table.
+	 */
+	DIAMETER("Diameter", MeasureTarget.NETWORK),
+
+	/**
+	 * Eccentricity: the largest finite shortest path distance from the node
+	 * to another node, in the unit of the edge weights. Written to the node
+	 * table.
+	 */
+	ECCENTRICITY("Eccentricity", MeasureTarget.NODE),
+
+	/**
+	 * Edge betweenness: for every pair of nodes, the fraction of their
+	 * shortest paths that use the edge, summed over all pairs. Not
+	 * normalized, and edge weights are ignored. Written to the edge table.
+	 */
+	EDGE_BETWENNESS("EdgeBetweenness", MeasureTarget.EDGE),
+
+	/**
+	 * Radiality: the average over the reachable nodes of the diameter plus
+	 * one minus their distance from the node, divided by the diameter, between
+	 * 0 and 1. Written to the node table.
+	 */
+	RADIALITY("Radiality", MeasureTarget.NODE),
+
+	/**
+	 * Stress: the number of shortest paths between pairs of other nodes that
+	 * pass through the node. A non-negative count, not normalized, and edge
+	 * weights are ignored. Written to the node table.
+	 */
+	STRESS("Stress", MeasureTarget.NODE);
+
+	private final String columnName;
+	private final MeasureTarget target;
+
+	private CentralityMeasure(String columnName, MeasureTarget target) {
+		this.columnName = columnName;
+		this.target = target;
+	}
+
+	/**
+	 * Returns the default name of the column the measure is written to.
+	 * 
+	 * @return Column name.
+	 */
+	public String getColumnName() {
+		return columnName;
+	}
+
+	/**
+	 * Returns whether the measure is defined on CyNodes, CyEdges or the whole
+	 * network, i.e. which default table it is written to.
+	 * 
+	 * @return MeasureTarget
+	 */
+	public MeasureTarget getTarget() {
+		return target;
+	}
+}
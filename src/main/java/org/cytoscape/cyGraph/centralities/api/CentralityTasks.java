@@ -0,0 +1,154 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.cytoscape.cyGraph.algorithms.api.AlgorithmTask;
+import org.cytoscape.cyGraph.algorithms.api.GraphSnapshot;
+
+/**
+ * Creates cancellable, progress reporting AlgorithmTasks for the long running
+ * methods of Centralities. The parallel work of the tasks is done on an
+ * ExecutorService shared by all tasks created here. Like
+ * {@link org.cytoscape.cyGraph.algorithms.api.GraphAlgorithmTasks} this is not
+ * a {@link org.cytoscape.work.TaskFactory}.
+ * 
+ * @see org.cytoscape.cyGraph.algorithms.api.GraphAlgorithmTasks
+ */
+public interface CentralityTasks {
+
+	/**
+	 * Sets the ExecutorService the tasks run their parallel work on.
+	 * 
+	 * @param executor
+	 *            ExecutorService
+	 */
+	public void setExecutor(ExecutorService executor);
+
+	/**
+	 * Returns the ExecutorService the tasks run their parallel work on.
+	 * 
+	 * @return ExecutorService
+	 */
+	public ExecutorService getExecutor();
+
+	/**
+	 * Creates a task estimating node and edge betweenness on a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to estimate
+	 *            betweenness.
+	 * @param epsilon
+	 *            Maximum additive error of the normalized estimates.
+	 * @param delta
+	 *            Probability that the error bound does not hold.
+	 * @param seed
+	 *            Seed of the random number generator used for sampling.
+	 * @return AlgorithmTask
+	 * @see Centralities#getApproximateBetweenness(GraphSnapshot, double,
+	 *      double, long, int)
+	 */
+	public AlgorithmTask<ApproximateBetweennessResults> createApproximateBetweennessTask(
+			GraphSnapshot snapshot, double epsilon, double delta, long seed);
+
+	/**
+	 * Creates a task estimating node and edge betweenness on a GraphSnapshot
+	 * by sampling until a time budget is used up. Cancelling the task stops
+	 * the sampling without a result, like any other task.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to estimate
+	 *            betweenness.
+	 * @param timeBudget
+	 *            Maximum time to spend sampling.
+	 * @param unit
+	 *            TimeUnit of the time budget.
+	 * @param delta
+	 *            Probability that the confidence intervals do not hold.
+	 * @param seed
+	 *            Seed of the random number generator used for sampling.
+	 * @return AlgorithmTask
+	 * @see Centralities#getApproximateBetweenness(GraphSnapshot, long,
+	 *      TimeUnit, double, long, int)
+	 */
+	public AlgorithmTask<ApproximateBetweennessResults> createApproximateBetweennessTask(
+			GraphSnapshot snapshot, long timeBudget, TimeUnit unit,
+			double delta, long seed);
+
+	/**
+	 * Creates a task computing node, edge betweenness and node stress on a
+	 * GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute node,
+	 *            edge betweenness and node stress.
+	 * @return AlgorithmTask
+	 * @see Centralities#getBetweennessStress(GraphSnapshot, int)
+	 */
+	public AlgorithmTask<BetweennessStressResults> createBetweennessStressTask(
+			GraphSnapshot snapshot);
+
+	/**
+	 * Creates a task computing the triangle counts, local clustering
+	 * coefficients and global transitivity of all the nodes of a
+	 * GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            clustering coefficients.
+	 * @return AlgorithmTask
+	 * @see Centralities#getClusteringCoefficients(GraphSnapshot, int)
+	 */
+	public AlgorithmTask<ClusteringResults> createClusteringCoefficientsTask(
+			GraphSnapshot snapshot);
+
+	/**
+	 * Creates a task computing the selected centrality measures on a
+	 * GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute
+	 *            centrality measures.
+	 * @param measures
+	 *            The measures to compute.
+	 * @return AlgorithmTask
+	 * @see Centralities#computeAll(GraphSnapshot, Set, int)
+	 */
+	public AlgorithmTask<IndexedNetworkStatsResults> createComputeAllTask(
+			GraphSnapshot snapshot, Set<CentralityMeasure> measures);
+
+	/**
+	 * Creates a task computing the exact diameter of a GraphSnapshot.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            diameter.
+	 * @return AlgorithmTask
+	 * @see Centralities#getDiameter(GraphSnapshot)
+	 */
+	public AlgorithmTask<Double> createDiameterTask(GraphSnapshot snapshot);
+
+	/**
+	 * Creates a task computing lower and upper bounds on the diameter of a
+	 * GraphSnapshot within a time budget. Cancelling the task stops it
+	 * without a result, like any other task; the bounds found up to the
+	 * budget are only returned when the budget runs out.
+	 * 
+	 * @param snapshot
+	 *            The GraphSnapshot for which the user wants to compute the
+	 *            diameter.
+	 * @param timeBudget
+	 *            Maximum time to spend, or <code>Long.MAX_VALUE</code> to run
+	 *            until the diameter is exact.
+	 * @param unit
+	 *            TimeUnit of the time budget.
+	 * @return AlgorithmTask
+	 * @see Centralities#getDiameterBounds(GraphSnapshot, long, TimeUnit)
+	 */
+	public AlgorithmTask<DiameterResults> createDiameterBoundsTask(
+			GraphSnapshot snapshot, long timeBudget, TimeUnit unit);
+}
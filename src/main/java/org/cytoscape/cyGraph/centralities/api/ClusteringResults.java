@@ -0,0 +1,106 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.cyGraph.algorithms.api.GraphSnapshot;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the triangle counts, local clustering coefficients
+ * and global transitivity of a GraphSnapshot, computed in one triangle
+ * counting pass. Arrays are indexed by the node indices of the snapshot,
+ * shared and must not be modified.
+ * <p>
+ * Triangle counts and transitivity ignore edge directions. For a directed
+ * snapshot the local clustering coefficients are available for every
+ * DirectedClusteringType; for an undirected snapshot all types give the
+ * undirected coefficient.
+ * 
+ */
+public interface ClusteringResults {
+
+	/**
+	 * Returns the GraphSnapshot the values were computed on.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the number of triangles through a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Number of triangles.
+	 */
+	public long getTriangleCount(CyNode node);
+
+	/**
+	 * Returns the number of triangles through every node.
+	 * 
+	 * @return Array : (Node index) -> (Number of triangles)
+	 */
+	public long[] getTriangleCounts();
+
+	/**
+	 * Returns the number of triangles in the snapshot.
+	 * 
+	 * @return Number of triangles.
+	 */
+	public long getTotalTriangleCount();
+
+	/**
+	 * Returns the local clustering coefficient of a given CyNode, i.e.
+	 * {@link DirectedClusteringType#TOTAL} for a directed snapshot.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Clustering coefficient.
+	 */
+	public double getClusteringCoefficient(CyNode node);
+
+	/**
+	 * Returns the local clustering coefficient of a given type of a given
+	 * CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @param type
+	 *            DirectedClusteringType
+	 * @return Clustering coefficient.
+	 */
+	public double getClusteringCoefficient(CyNode node,
+			DirectedClusteringType type);
+
+	/**
+	 * Returns the local clustering coefficient of every node.
+	 * 
+	 * @return Array : (Node index) -> (Clustering coefficient)
+	 */
+	public double[] getClusteringCoefficients();
+
+	/**
+	 * Returns the local clustering coefficient of a given type of every node.
+	 * 
+	 * @param type
+	 *            DirectedClusteringType
+	 * @return Array : (Node index) -> (Clustering coefficient)
+	 */
+	public double[] getClusteringCoefficients(DirectedClusteringType type);
+
+	/**
+	 * Returns the average of the local clustering coefficients.
+	 * 
+	 * @return Average clustering coefficient.
+	 */
+	public double getAverageClusteringCoefficient();
+
+	/**
+	 * Returns the global transitivity, i.e. three times the number of
+	 * triangles divided by the number of connected triples.
+	 * 
+	 * @return Transitivity
+	 */
+	public double getTransitivity();
+}
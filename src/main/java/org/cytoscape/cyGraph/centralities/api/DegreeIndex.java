@@ -0,0 +1,92 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Degree, in-degree and out-degree of every CyNode of a CyNetwork, kept up to
+ * date from the events fired when nodes and edges are added or removed. The
+ * values are the ones returned by
+ * {@link Centralities#getDegree(CyNetwork, CyNode)},
+ * {@link Centralities#getIndegree(CyNetwork, CyNode)} and
+ * {@link Centralities#getOutdegree(CyNetwork, CyNode)}.
+ * <p>
+ * The index is updated on the thread that fires the network events, usually
+ * the event thread. All methods are thread safe: the per-node getters return
+ * the value after the last edit, and {@link #getVectors()} hands out a
+ * consistent, immutable copy of all degrees instead of the internal storage,
+ * whose arrays and node numbering change with every edit.
+ * <p>
+ * Every call of {@link Centralities#getDegreeIndex(CyNetwork)} returns a
+ * handle of its own, while the degrees behind the handles are stored and
+ * maintained only once per network. The shared storage listens to the network
+ * until every handle has been disposed or the network is destroyed, whichever
+ * comes first.
+ * 
+ * @see Centralities#getDegreeIndex(CyNetwork)
+ */
+public interface DegreeIndex {
+
+	/**
+	 * Returns the CyNetwork the index is maintained for.
+	 * 
+	 * @return CyNetwork
+	 */
+	public CyNetwork getNetwork();
+
+	/**
+	 * Returns the number of CyNodes in the network.
+	 * 
+	 * @return Number of nodes.
+	 */
+	public int getNodeCount();
+
+	/**
+	 * Returns the degree of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return The degree.
+	 */
+	public int getDegree(CyNode node);
+
+	/**
+	 * Returns the in-degree of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return The in-degree.
+	 */
+	public int getIndegree(CyNode node);
+
+	/**
+	 * Returns the out-degree of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return The out-degree.
+	 */
+	public int getOutdegree(CyNode node);
+
+	/**
+	 * Returns a consistent copy of the degrees of all nodes, their histogram
+	 * and the nodes with the highest degree. The copy is made on the first
+	 * call after an edit; until the next edit the same DegreeVectors is
+	 * returned, so reading an unchanged network allocates nothing.
+	 * 
+	 * @return DegreeVectors
+	 */
+	public DegreeVectors getVectors();
+
+	/**
+	 * Releases this handle. The shared storage stops following the edits of
+	 * the CyNetwork and is released only when the last handle of the network
+	 * is disposed; other handles are not affected. Calling it again has no
+	 * effect. This handle must not be used afterwards; DegreeVectors handed
+	 * out before stay valid.
+	 */
+	public void dispose();
+}
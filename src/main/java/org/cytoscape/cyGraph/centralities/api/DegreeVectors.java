@@ -0,0 +1,91 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.cyGraph.algorithms.api.RankedNodes;
+import org.cytoscape.model.CyNode;
+
+/**
+ * Consistent, immutable copy of the degrees held by a DegreeIndex at one point
+ * in time. Nodes are numbered <code>0 .. getNodeCount() - 1</code>, and the
+ * numbering only holds for this copy. The arrays are exactly as long as
+ * described, are shared and must not be modified. A DegreeVectors can be read
+ * from any thread while the network keeps changing.
+ * 
+ * @see DegreeIndex#getVectors()
+ */
+public interface DegreeVectors {
+
+	/**
+	 * Returns the number of CyNodes.
+	 * 
+	 * @return Number of nodes.
+	 */
+	public int getNodeCount();
+
+	/**
+	 * Returns the CyNode with the given index.
+	 * 
+	 * @param index
+	 *            Node index.
+	 * @return CyNode
+	 */
+	public CyNode getNode(int index);
+
+	/**
+	 * Returns the index of a given CyNode, or -1 if the node was not in the
+	 * network when the copy was made.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Node index.
+	 */
+	public int getNodeIndex(CyNode node);
+
+	/**
+	 * Returns the degree of every node.
+	 * 
+	 * @return Array : (Node index) -> (Degree)
+	 */
+	public int[] getDegrees();
+
+	/**
+	 * Returns the in-degree of every node.
+	 * 
+	 * @return Array : (Node index) -> (In-degree)
+	 */
+	public int[] getIndegrees();
+
+	/**
+	 * Returns the out-degree of every node.
+	 * 
+	 * @return Array : (Node index) -> (Out-degree)
+	 */
+	public int[] getOutdegrees();
+
+	/**
+	 * Returns the largest degree of any node.
+	 * 
+	 * @return Maximum degree.
+	 */
+	public int getMaximumDegree();
+
+	/**
+	 * Returns the degree histogram, i.e. the number of nodes with every
+	 * degree. The array has <code>getMaximumDegree() + 1</code> entries.
+	 * 
+	 * @return Array : (Degree) -> (Number of nodes)
+	 */
+	public int[] getDegreeHistogram();
+
+	/**
+	 * Returns the k nodes with the highest degree, sorted by decreasing
+	 * degree.
+	 * 
+	 * @param k
+	 *            Number of nodes.
+	 * @return RankedNodes whose scores are the degrees.
+	 */
+	public RankedNodes getTopDegreeNodes(int k);
+}
@@ -0,0 +1,61 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.model.CyNode;
+
+/**
+ * Provides methods to get the lower and upper bounds on the diameter of a
+ * GraphSnapshot found by the iFUB / double sweep technique. When the bounds
+ * are equal the diameter is exact.
+ * 
+ */
+public interface DiameterResults {
+
+	/**
+	 * Returns the lower bound on the diameter, i.e. the largest distance
+	 * found between two nodes.
+	 * 
+	 * @return Lower bound.
+	 */
+	public double getLowerBound();
+
+	/**
+	 * Returns the upper bound on the diameter.
+	 * 
+	 * @return Upper bound.
+	 */
+	public double getUpperBound();
+
+	/**
+	 * Returns True if the lower and upper bound are equal and False
+	 * otherwise.
+	 * 
+	 * @return True if the diameter is exact and False otherwise.
+	 */
+	public boolean isExact();
+
+	/**
+	 * Returns the source CyNode of a shortest path whose length is the lower
+	 * bound.
+	 * 
+	 * @return Source CyNode.
+	 */
+	public CyNode getSource();
+
+	/**
+	 * Returns the target CyNode of a shortest path whose length is the lower
+	 * bound.
+	 * 
+	 * @return Target CyNode.
+	 */
+	public CyNode getTarget();
+
+	/**
+	 * Returns the number of single source shortest path searches performed.
+	 * 
+	 * @return Number of searches.
+	 */
+	public int getSearchCount();
+}
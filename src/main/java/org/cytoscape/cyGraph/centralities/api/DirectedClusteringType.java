@@ -0,0 +1,40 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+/**
+ * The variants of the local clustering coefficient of a node in a directed
+ * network, distinguished by the pattern of the directed triangles they count
+ * (Fagiolo, 2007).
+ * 
+ */
+public enum DirectedClusteringType {
+
+	/**
+	 * All directed triangles through the node.
+	 */
+	TOTAL,
+
+	/**
+	 * Triangles forming a cycle: i -> j -> k -> i.
+	 */
+	CYCLE,
+
+	/**
+	 * Triangles where the node is the middleman: j -> i -> k and j -> k.
+	 */
+	MIDDLEMAN,
+
+	/**
+	 * Triangles where both neighbors point to the node: j -> i, k -> i and
+	 * j -> k.
+	 */
+	IN,
+
+	/**
+	 * Triangles where the node points to both neighbors: i -> j, i -> k and
+	 * j -> k.
+	 */
+	OUT
+}
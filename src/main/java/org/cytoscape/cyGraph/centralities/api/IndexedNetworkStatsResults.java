@@ -0,0 +1,147 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+import org.cytoscape.cyGraph.algorithms.api.GraphSnapshot;
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyNode;
+
+/**
+ * NetworkStatsResults whose values are stored in <code>double</code> arrays
+ * indexed by the node and edge indices of a GraphSnapshot. The single value
+ * getters do not allocate, and the Map getters inherited from
+ * NetworkStatsResults return read-only views backed by the arrays.
+ * <p>
+ * If a measure was not computed, its Map and array getters return null and its
+ * per-node or per-edge getter returns NaN.
+ * 
+ */
+public interface IndexedNetworkStatsResults extends NetworkStatsResults {
+
+	/**
+	 * Returns the GraphSnapshot whose node and edge indices the arrays use.
+	 * 
+	 * @return GraphSnapshot
+	 */
+	public GraphSnapshot getSnapshot();
+
+	/**
+	 * Returns the betweenness of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Betweenness
+	 */
+	public double getBetweenness(CyNode node);
+
+	/**
+	 * Returns the closeness of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Closeness
+	 */
+	public double getCloseness(CyNode node);
+
+	/**
+	 * Returns the clustering coefficient of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Clustering coefficient
+	 */
+	public double getClusteringCoefficient(CyNode node);
+
+	/**
+	 * Returns the eccentricity of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Eccentricity
+	 */
+	public double getEccentricity(CyNode node);
+
+	/**
+	 * Returns the radiality of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Radiality
+	 */
+	public double getRadiality(CyNode node);
+
+	/**
+	 * Returns the stress of a given CyNode.
+	 * 
+	 * @param node
+	 *            CyNode
+	 * @return Stress
+	 */
+	public double getStress(CyNode node);
+
+	/**
+	 * Returns the betweenness of a given CyEdge.
+	 * 
+	 * @param edge
+	 *            CyEdge
+	 * @return Betweenness
+	 */
+	public double getEdgeBetweenness(CyEdge edge);
+
+	/**
+	 * Returns the node betweenness values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Betweenness)
+	 */
+	public double[] getBetweennessArray();
+
+	/**
+	 * Returns the node closeness values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Closeness)
+	 */
+	public double[] getClosenessArray();
+
+	/**
+	 * Returns the node clustering coefficient values indexed by node index.
+	 * The array is shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Clustering coefficient)
+	 */
+	public double[] getClusteringCoefficientArray();
+
+	/**
+	 * Returns the node eccentricity values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Eccentricity)
+	 */
+	public double[] getEccentricityArray();
+
+	/**
+	 * Returns the node radiality values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Radiality)
+	 */
+	public double[] getRadialityArray();
+
+	/**
+	 * Returns the node stress values indexed by node index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Node index) -> (Stress)
+	 */
+	public double[] getStressArray();
+
+	/**
+	 * Returns the edge betweenness values indexed by edge index. The array is
+	 * shared and must not be modified.
+	 * 
+	 * @return Array : (Edge index) -> (Betweenness)
+	 */
+	public double[] getEdgeBetweennessArray();
+}
@@ -0,0 +1,28 @@
+/**
+ * 
+ */
+package org.cytoscape.cyGraph.centralities.api;
+
+/**
+ * The kind of object a CentralityMeasure is defined on, and so the default
+ * table of the CyNetwork it is written to.
+ * 
+ */
+public enum MeasureTarget {
+
+	/**
+	 * The measure has one value per CyNode and goes to the default node table.
+	 */
+	NODE,
+
+	/**
+	 * The measure has one value per CyEdge and goes to the default edge table.
+	 */
+	EDGE,
+
+	/**
+	 * The measure has one value for the whole CyNetwork and goes to the
+	 * default network table.
+	 */
+	NETWORK
+}